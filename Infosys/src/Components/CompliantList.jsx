@@ -1,6 +1,7 @@
 import React, { useState, useEffect, useRef } from "react";
 import toast from "react-hot-toast";
 import gsap from "gsap";
+import { authHeaders } from "../api/auth";
 import { 
   completeComplaint, 
   getWorkersByComplaintId, 
@@ -23,7 +24,8 @@ const DeadlineTimer = ({ complaintId, complaint }) => {
         if (isResolved) {
           // Fetch completion time for resolved complaints
           const response = await fetch(
-            `http://localhost:8080/api/dept-manager/complaints/${complaintId}/completion-time`
+            `http://localhost:8080/api/dept-manager/complaints/${complaintId}/completion-time`,
+            { headers: authHeaders() }
           );
           const completionTimeText = await response.text();
           setCompletionTime(completionTimeText);
@@ -6,6 +6,7 @@ import toast, { Toaster } from "react-hot-toast";
 import AssignmentPopup from "../Components/AssignDepartmentModal";
 import { getAllDepartmentNames, getDepartmentNameByComplaintId } from "../api/DepartmentAPI"; 
 import { fetchFeedbackDetails } from "../api/AdminAPI";
+import { authHeaders } from "../api/auth";
 import ComplaintsByCategoryChart from "../Components/charts/ComplaintsByCategoryChart";
 import ComplaintsByZoneChart from "../Components/charts/ComplaintsByZoneChart";
 
@@ -276,7 +277,7 @@ function ComplaintsDashboard() {
     const fetchComplaints = useCallback(async () => {
         setLoading(true);
         try {
-            const response = await fetch(API_BASE_URL);
+            const response = await fetch(`${API_BASE_URL}?view=full`, { headers: authHeaders() });
             if (!response.ok) throw new Error("Failed to fetch complaints.");
             const data = await response.json();
             setAllComplaints(data);
@@ -334,7 +335,7 @@ function ComplaintsDashboard() {
                 `${API_BASE_URL}/${complainId}/assign-department`,
                 {
                     method: "PUT",
-                    headers: { "Content-Type": "application/json" },
+                    headers: { "Content-Type": "application/json", ...authHeaders() },
                     body: JSON.stringify({
                         departmentId: departmentId,
                         timelineDays: days,
@@ -376,7 +377,7 @@ function ComplaintsDashboard() {
         try {
             const response = await fetch(`${API_BASE_URL}/${complainId}/status`, {
                 method: "PUT",
-                headers: { "Content-Type": "application/json" },
+                headers: { "Content-Type": "application/json", ...authHeaders() },
                 body: JSON.stringify({ status: newStatus, message: message }),
             });
 
@@ -581,13 +582,13 @@ function ComplaintsDashboard() {
                                                     <div className="flex space-x-2 pt-2 border-t border-gray-100">
                                                         {c.beforeImagePath && (
                                                             <button
-                                                                onClick={() => openImageModal(`${FILE_BASE_URL}/${c.beforeImagePath}`, `Evidence: Before Image - Complaint #${c.complainId}`)}
+                                                                onClick={() => openImageModal(`${FILE_BASE_URL}/${c.beforeImagePath}?size=preview`, `Evidence: Before Image - Complaint #${c.complainId}`)}
                                                                 className="flex-1 py-1 bg-yellow-500 text-white text-xs font-medium rounded-lg hover:bg-yellow-600 shadow-sm"
                                                             >View Before</button>
                                                         )}
                                                         {c.afterImagePath && (
                                                             <button
-                                                                onClick={() => openImageModal(`${FILE_BASE_URL}/${c.afterImagePath}`, `Resolution: After Image - Complaint #${c.complainId}`)}
+                                                                onClick={() => openImageModal(`${FILE_BASE_URL}/${c.afterImagePath}?size=preview`, `Resolution: After Image - Complaint #${c.complainId}`)}
                                                                 className="flex-1 py-1 bg-green-500 text-white text-xs font-medium rounded-lg hover:bg-green-600 shadow-sm"
                                                             >View After</button>
                                                         )}
@@ -1,4 +1,4 @@
-import React, { useState, useEffect, useCallback } from "react";
+import React, { useState, useEffect, useCallback, useRef } from "react";
 import { useParams, Navigate } from "react-router-dom";
 import {
   getAssignedComplaints,
@@ -7,6 +7,7 @@ import {
   getDepartmentWorkers,
   getDepartmentInfo,
 } from "../api/DepartmentAPI";
+import { subscribeToComplaintUpdates, applyComplaintUpdate } from "../api/liveUpdates";
 import CompliantList from "../Components/CompliantList";
 import WorkerModal from "../Components/WorkerModal";
 import toast, { Toaster } from "react-hot-toast";
@@ -47,6 +48,36 @@ const DeptDashboard = () => {
     fetchDashboardData();
   }, [fetchDashboardData]);
 
+  // Live updates: patch known complaints, reload the list only when one is newly assigned
+  const complaintsRef = useRef(complaints);
+  complaintsRef.current = complaints;
+
+  useEffect(() => {
+    if (!deptId) return undefined;
+    const reloadComplaints = () => getAssignedComplaints(deptId).then(setComplaints);
+    return subscribeToComplaintUpdates(`/api/dept-manager/${deptId}/complaints/stream`, {
+      onUpdate: (update) => {
+        if (String(update.departmentId) !== String(deptId)) {
+          // Reassigned to another department
+          setComplaints((prev) => prev.filter((c) => c.complainId !== update.complainId));
+        } else if (complaintsRef.current.some((c) => c.complainId === update.complainId)) {
+          setComplaints((prev) => prev.map((c) =>
+            c.complainId === update.complainId ? applyComplaintUpdate(c, update) : c));
+        } else {
+          reloadComplaints();
+        }
+      },
+      onSla: (event) => {
+        if (event.kind === "BREACH") {
+          toast.error(`Complaint #${event.complainId} is past its deadline.`);
+        } else {
+          toast(`Complaint #${event.complainId} is due soon.`);
+        }
+      },
+      onResync: reloadComplaints,
+    });
+  }, [deptId]);
+
   const handleWorkerAdded = (newWorker) => {
     setWorkers((prev) => [...prev, newWorker]);
     setIsWorkerModalOpen(false);
@@ -2,6 +2,7 @@ import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate, Link } from 'react-router-dom';
 import toast, { Toaster } from 'react-hot-toast';
 import { gsap } from 'gsap';
+import { authHeaders } from '../api/auth';
 
 const categories = [
     "Road Damage (Potholes, Cracks)",
@@ -66,6 +67,46 @@ function RegisterComplains() {
         image: null,
     });
 
+    // Optional GPS position; enables duplicate suggestions and nearby lookup for staff
+    const [coords, setCoords] = useState(null);
+    const [duplicates, setDuplicates] = useState([]);
+
+    useEffect(() => {
+        if (!coords) {
+            setDuplicates([]);
+            return;
+        }
+        const controller = new AbortController();
+        const params = new URLSearchParams({
+            latitude: coords.latitude,
+            longitude: coords.longitude,
+            category: form.category,
+        });
+        fetch(`http://localhost:8080/api/users/complaints/duplicates?${params}`, {
+            headers: authHeaders(),
+            signal: controller.signal,
+        })
+            .then(response => (response.ok ? response.json() : []))
+            .then(setDuplicates)
+            .catch(() => {});
+        return () => controller.abort();
+    }, [coords, form.category]);
+
+    const handleUseLocation = () => {
+        if (!navigator.geolocation) {
+            toast.error('Location is not available in this browser.');
+            return;
+        }
+        navigator.geolocation.getCurrentPosition(
+            (position) => setCoords({
+                latitude: position.coords.latitude,
+                longitude: position.coords.longitude,
+            }),
+            () => toast.error('Could not get your location.'),
+            { enableHighAccuracy: true, timeout: 10000 }
+        );
+    };
+
     const handleChange = (e) => {
         const { name, value } = e.target;
         setForm(prev => ({ ...prev, [name]: value }));
@@ -100,12 +141,17 @@ function RegisterComplains() {
         formData.append('description', form.description);
         formData.append('city', form.city);
         formData.append('location', form.location);
+        if (coords) {
+            formData.append('latitude', coords.latitude);
+            formData.append('longitude', coords.longitude);
+        }
         if (form.image) {
             formData.append('image', form.image);
         }
 
         const submissionPromise = fetch("http://localhost:8080/api/users/complain/raise", {
             method: 'POST',
+            headers: authHeaders(),
             body: formData,
         });
 
@@ -123,6 +169,7 @@ function RegisterComplains() {
                             location: '',
                             image: null
                         });
+                        setCoords(null);
                         document.getElementById('file-input').value = null;
 
                         const text = await response.text();
@@ -252,8 +299,41 @@ function RegisterComplains() {
                             className="mt-1 block w-full p-3 border border-gray-300 rounded-xl bg-gray-50 placeholder-gray-400 focus:ring-indigo-500 focus:border-indigo-500 transition-all duration-200"
                             required
                         />
+                        <div className="mt-2 flex items-center space-x-3">
+                            <button
+                                type="button"
+                                onClick={handleUseLocation}
+                                className="px-3 py-1.5 text-sm font-medium text-indigo-600 border border-indigo-600 rounded-xl hover:bg-indigo-50 transition-colors duration-200"
+                            >
+                                📍 {coords ? 'Update my location' : 'Use my current location'}
+                            </button>
+                            {coords && (
+                                <span className="text-xs text-gray-500">
+                                    {coords.latitude.toFixed(5)}, {coords.longitude.toFixed(5)}
+                                </span>
+                            )}
+                        </div>
                     </div>
 
+                    {/* Possible duplicates near the captured location */}
+                    {duplicates.length > 0 && (
+                        <div className="p-4 border border-yellow-300 bg-yellow-50 rounded-xl">
+                            <p className="text-sm font-bold text-yellow-800 mb-2">
+                                ⚠️ Similar open complaints have already been reported nearby:
+                            </p>
+                            <ul className="space-y-1">
+                                {duplicates.map(d => (
+                                    <li key={d.complainId} className="text-sm text-yellow-900">
+                                        #{d.complainId} · {d.title} · {d.status} · {d.distanceMeters} m away
+                                    </li>
+                                ))}
+                            </ul>
+                            <p className="text-xs text-yellow-700 mt-2">
+                                If one of these is your issue, you can track it instead of submitting a new complaint.
+                            </p>
+                        </div>
+                    )}
+
                     {/* Description */}
                     <div ref={addAnimatableRef}>
                         <span className="text-gray-700 font-bold text-sm mb-1 block">Detailed Description (Mandatory)</span>
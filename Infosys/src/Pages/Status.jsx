@@ -1,10 +1,12 @@
-import React, { useState, useEffect, useCallback } from "react";
+import React, { useState, useEffect, useCallback, useRef } from "react";
 import { useNavigate, Link } from "react-router-dom";
 import ImagePopup from "../Components/ImagePopup";
 import Popup from "../Components/Popup";
 import FeedbackModal from "../Components/FeedbackModal"; 
 // ⭐ CORRECTED IMPORT PATH: Assuming you want to use this method from UserAPI
 import { getRatingByComplainId } from "../api/UserAPI"; 
+import { authHeaders } from "../api/auth";
+import { subscribeToComplaintUpdates, applyComplaintUpdate } from "../api/liveUpdates";
 
 // File base URL for displaying images
 const FILE_BASE_URL = 'http://localhost:8080/api/files/download';
@@ -143,7 +145,8 @@ function Status() {
         try {
             // Assume this returns the base complaint list (DTO or Entity)
             const response = await fetch(
-                `http://localhost:8080/api/users/complaints/history/${userId}`
+                `http://localhost:8080/api/users/complaints/history/${userId}?view=full`,
+                { headers: authHeaders() }
             );
             if (!response.ok) throw new Error("Failed to fetch complaints.");
             const data = await response.json();
@@ -167,6 +170,20 @@ function Status() {
         fetchComplaints();
     }, [fetchComplaints]);
 
+    // Live status changes instead of re-downloading the list. fetchComplaints
+    // changes identity on every render, so it is read through a ref to keep one connection.
+    const fetchComplaintsRef = useRef(fetchComplaints);
+    fetchComplaintsRef.current = fetchComplaints;
+
+    useEffect(() => {
+        if (!userId) return undefined;
+        return subscribeToComplaintUpdates(`/api/users/${userId}/complaints/stream`, {
+            onUpdate: (update) => setComplaints(prev => prev.map(c =>
+                c.complainId === update.complainId ? applyComplaintUpdate(c, update) : c)),
+            onResync: () => fetchComplaintsRef.current(),
+        });
+    }, [userId]);
+
     const getStatusClass = (status) => {
         const s = status ? status.toUpperCase() : 'PENDING';
         switch (s) {
@@ -284,7 +301,7 @@ function Status() {
                                             {hasBeforeImage && (
                                                 <button
                                                     onClick={() => openImageModal(
-                                                        `${FILE_BASE_URL}/${c.beforeImagePath}`,
+                                                        `${FILE_BASE_URL}/${c.beforeImagePath}?size=preview`,
                                                         `Original Evidence (Before) for ID ${c.complainId}`
                                                     )}
                                                     className="px-3 py-1 text-xs text-white bg-blue-500 rounded-lg hover:bg-blue-600 transition shadow-md"
@@ -296,7 +313,7 @@ function Status() {
                                             {hasAfterImage && (
                                                 <button
                                                     onClick={() => openImageModal(
-                                                        `${FILE_BASE_URL}/${c.afterImagePath}`,
+                                                        `${FILE_BASE_URL}/${c.afterImagePath}?size=preview`,
                                                         `Resolution Evidence (After) for ID ${c.complainId}`
                                                     )}
                                                     className="px-3 py-1 text-xs text-white bg-green-500 rounded-lg hover:bg-green-600 transition shadow-md"
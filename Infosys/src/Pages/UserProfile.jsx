@@ -1,6 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import toast, { Toaster } from 'react-hot-toast';
+import { clearAccessToken } from '../api/auth';
 
 function UserProfile() {
     const navigate = useNavigate();
@@ -31,6 +32,7 @@ function UserProfile() {
         localStorage.removeItem("userEmail");
         localStorage.removeItem("userId");
         localStorage.removeItem("isAdmin");
+        clearAccessToken();
         
         toast.success('Logged out successfully.', { duration: 1500 });
         
@@ -1,6 +1,7 @@
 import React, { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import toast, { Toaster } from 'react-hot-toast';
+import { saveAccessToken } from '../../api/auth';
 
 function AdminLogin() {
     const [email, setEmail] = useState('');
@@ -24,6 +25,7 @@ function AdminLogin() {
                 localStorage.setItem("isLoggedIn", "true");
                 localStorage.setItem("isAdmin", "true");
                 localStorage.setItem("userEmail", email);
+                saveAccessToken(response.headers.get('Authorization'));
                 
                 // Delay navigation slightly to let the success toast appear
                 setTimeout(() => navigate('/profile'), 1000);
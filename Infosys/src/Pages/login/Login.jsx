@@ -2,6 +2,7 @@ import React, { useState } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 // Ensure you have run: npm install react-hot-toast
 import toast, { Toaster } from 'react-hot-toast';
+import { saveAccessToken } from '../../api/auth';
 
 function UserLogin() { // Renamed from Login to UserLogin for clarity
   const [form, setForm] = useState({ email: '', password: '' });
@@ -40,6 +41,7 @@ function UserLogin() { // Renamed from Login to UserLogin for clarity
         localStorage.setItem('userEmail', form.email);
         localStorage.setItem('userId', userId);
         localStorage.setItem('isAdmin', 'false');
+        saveAccessToken(response.headers.get('Authorization'));
 
         // Delay navigation slightly to let the success toast appear
         setTimeout(() => {
@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { saveAccessToken, clearAccessToken } from './auth';
 
 // Base URL for the Department Management endpoints
 const API_BASE_URL = 'http://localhost:8080/api/dept-manager';
@@ -11,6 +12,7 @@ export const loginDepartment = async (loginData) => {
         const response = await axios.post(`${API_BASE_URL}/login`, loginData);
         // The backend returns the Department ID (Long) on success
         const deptId = response.data;
+        saveAccessToken(response.headers['authorization']);
 
         // Store Department ID in localStorage for future requests
         localStorage.setItem(DEPARTMENT_ID_KEY, deptId);
@@ -29,13 +31,14 @@ export const getDepartmentId = () => {
 
 export const logoutDepartment = () => {
     localStorage.removeItem(DEPARTMENT_ID_KEY);
+    clearAccessToken();
 };
 
 // --- COMPLAINTS & WORKERS ---
 
 export const getAssignedComplaints = async (deptId) => {
     try {
-        const response = await axios.get(`${API_BASE_URL}/${deptId}/complaints`);
+        const response = await axios.get(`${API_BASE_URL}/${deptId}/complaints?view=full`);
         return response.data;
     } catch (error) {
         console.error("Failed to fetch complaints:", error);
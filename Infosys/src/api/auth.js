@@ -0,0 +1,31 @@
+import axios from 'axios';
+
+// Access token returned by the login endpoints in the Authorization header
+const TOKEN_KEY = 'accessToken';
+
+export const saveAccessToken = (authorizationHeader) => {
+    if (authorizationHeader) {
+        localStorage.setItem(TOKEN_KEY, authorizationHeader.replace(/^Bearer\s+/i, ''));
+    }
+};
+
+export const clearAccessToken = () => {
+    localStorage.removeItem(TOKEN_KEY);
+};
+
+export const getAccessToken = () => localStorage.getItem(TOKEN_KEY);
+
+// Headers for fetch() calls to protected endpoints
+export const authHeaders = () => {
+    const token = localStorage.getItem(TOKEN_KEY);
+    return token ? { Authorization: `Bearer ${token}` } : {};
+};
+
+// Every axios request carries the token automatically
+axios.interceptors.request.use((config) => {
+    const token = localStorage.getItem(TOKEN_KEY);
+    if (token) {
+        config.headers.Authorization = `Bearer ${token}`;
+    }
+    return config;
+});
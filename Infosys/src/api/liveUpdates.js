@@ -0,0 +1,34 @@
+import { getAccessToken } from './auth';
+
+const API_ROOT = 'http://localhost:8080';
+
+/**
+ * Opens a live-update stream (Server-Sent Events) and returns a function that
+ * closes it. EventSource cannot send headers, so the token goes in the URL.
+ *   onUpdate(update) - a complaint changed: { complainId, status, message, departmentId, departmentName, deadlineDate }
+ *   onSla(event)     - a deadline is near (NEAR_BREACH) or has passed (BREACH)
+ *   onResync()       - too many changes were missed; reload the list
+ * EventSource reconnects by itself after network errors.
+ */
+export const subscribeToComplaintUpdates = (path, { onUpdate, onSla, onResync }) => {
+    const token = getAccessToken();
+    if (!token) {
+        return () => {};
+    }
+    const source = new EventSource(`${API_ROOT}${path}?access_token=${encodeURIComponent(token)}`);
+    source.addEventListener('complaint', (e) => onUpdate?.(JSON.parse(e.data)));
+    source.addEventListener('sla', (e) => onSla?.(JSON.parse(e.data)));
+    source.addEventListener('resync', () => onResync?.());
+    return () => source.close();
+};
+
+// Applies an update to a complaint as returned by the list endpoints (?view=full)
+export const applyComplaintUpdate = (complaint, update) => ({
+    ...complaint,
+    status: update.status,
+    message: update.message,
+    deadlineDate: update.deadlineDate,
+    department: update.departmentId
+        ? { ...(complaint.department || {}), id: update.departmentId, name: update.departmentName }
+        : complaint.department,
+});
@@ -1,6 +1,7 @@
 import { StrictMode } from 'react'
 import { createRoot } from 'react-dom/client'
 import App from './App.jsx'
+import './api/auth' // installs the axios access-token interceptor
 
 createRoot(document.getElementById('root')).render(
   <StrictMode>
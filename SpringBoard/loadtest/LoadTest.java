@@ -0,0 +1,110 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing platform and virtual thread
+ * modes. Each client loops over the given paths for the run duration and the
+ * tool prints throughput and latency percentiles.
+ *
+ * <pre>
+ * java loadtest/LoadTest.java [baseUrl] [clients] [seconds] [path ...]
+ * java loadtest/LoadTest.java http://localhost:8080 400 30 /api/admin/complaints?size=50
+ * </pre>
+ *
+ * Set {@code ACCESS_TOKEN} to the token returned by a login to call
+ * protected endpoints.
+ */
+public class LoadTest {
+
+    private static final String ACCESS_TOKEN = System.getenv("ACCESS_TOKEN");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        List<String> paths = args.length > 3
+                ? Arrays.asList(args).subList(3, args.length)
+                : List.of("/api/admin/complaints?size=50",
+                        "/api/admin/complaints/status-count",
+                        "/api/dept-manager/all-names");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        // Warm-up so JIT and connection setup do not count against the run
+        runFor(client, baseUrl, paths, clients, Duration.ofSeconds(Math.max(5, seconds / 5)), null, null);
+
+        ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long started = System.nanoTime();
+        runFor(client, baseUrl, paths, clients, Duration.ofSeconds(seconds), samples, errors);
+        double elapsed = (System.nanoTime() - started) / 1e9;
+
+        long[] latencies = samples.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("clients=%d duration=%.1fs requests=%d errors=%d%n",
+                clients, elapsed, latencies.length, errors.get());
+        System.out.printf("throughput=%.0f req/s p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms%n",
+                latencies.length / elapsed,
+                percentile(latencies, 50), percentile(latencies, 90),
+                percentile(latencies, 99), percentile(latencies, 100));
+    }
+
+    private static void runFor(HttpClient client, String baseUrl, List<String> paths, int clients,
+            Duration duration, ConcurrentLinkedQueue<long[]> samples, AtomicLong errors) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int offset = c;
+                workers.submit(() -> {
+                    List<Long> local = new ArrayList<>();
+                    int i = offset;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + paths.get(i++ % paths.size())))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET();
+                        if (ACCESS_TOKEN != null) {
+                            builder.header("Authorization", "Bearer " + ACCESS_TOKEN);
+                        }
+                        HttpRequest request = builder.build();
+                        long t0 = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400 && errors != null) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            if (errors != null) {
+                                errors.incrementAndGet();
+                            }
+                            continue;
+                        }
+                        local.add(System.nanoTime() - t0);
+                    }
+                    if (samples != null) {
+                        samples.add(local.stream().mapToLong(Long::longValue).toArray());
+                    }
+                });
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,34 @@
+package com.infosys.SpringBoard.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.infosys.SpringBoard.SpringBoardApplication;
+
+/** Boots the application against a fresh in-memory H2 database for a benchmark trial. */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(SpringBoardApplication.class)
+                // SecurityConfig needs a servlet context; a random port keeps runs independent
+                .web(WebApplicationType.SERVLET)
+                // Command-line style so they override application.properties
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + databaseName
+                                + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+    }
+}
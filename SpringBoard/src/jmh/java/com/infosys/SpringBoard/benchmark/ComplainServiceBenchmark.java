@@ -0,0 +1,74 @@
+package com.infosys.SpringBoard.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.services.ComplainService;
+
+/** Pure-CPU helpers of {@link ComplainService}; no Spring context needed. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComplainServiceBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int workerCount;
+
+    private final ComplainService complainService = new ComplainService();
+
+    private Complains early;
+    private Complains late;
+    private String workerIds;
+
+    @Setup
+    public void setUp() {
+        early = complaint(LocalDate.of(2025, 3, 10), LocalDateTime.of(2025, 3, 8, 14, 30));
+        late = complaint(LocalDate.of(2025, 3, 10), LocalDateTime.of(2025, 3, 13, 9, 15));
+        // Same shape the completion form sends: ids separated by commas with stray spaces
+        workerIds = LongStream.rangeClosed(1, workerCount)
+                .mapToObj(id -> " " + (1000 + id))
+                .collect(Collectors.joining(","));
+    }
+
+    @Benchmark
+    public String completionTimeBeforeDeadline() {
+        return complainService.calculateCompletionTime(early);
+    }
+
+    @Benchmark
+    public String completionTimeAfterDeadline() {
+        return complainService.calculateCompletionTime(late);
+    }
+
+    @Benchmark
+    public List<Long> parseWorkerIds() {
+        return ComplainService.parseWorkerIds(workerIds);
+    }
+
+    private static Complains complaint(LocalDate deadline, LocalDateTime resolvedAt) {
+        Complains complaint = new Complains();
+        complaint.setDeadlineDate(deadline);
+        complaint.setResolvedAt(resolvedAt);
+        return complaint;
+    }
+}
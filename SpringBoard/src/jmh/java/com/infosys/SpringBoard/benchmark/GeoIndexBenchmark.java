@@ -0,0 +1,85 @@
+package com.infosys.SpringBoard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.infosys.SpringBoard.dto.NearbyComplaintDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.services.ComplaintGeoIndex;
+
+/**
+ * Lookup cost of {@link ComplaintGeoIndex} with every open complaint packed
+ * into one 20 x 20 km city, the densest realistic case. The index is used
+ * directly, with no Spring context or database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeoIndexBenchmark {
+
+    // Pune city centre; the box spans about 0.18 degrees each way
+    private static final double CENTRE_LAT = 18.52;
+    private static final double CENTRE_LON = 73.86;
+    private static final double SPAN = 0.18;
+    private static final String[] CATEGORIES = { "Roads", "Water", "Sanitation", "Electricity", "Parks" };
+
+    @Param({ "100000", "300000" })
+    private int openComplaints;
+
+    private ComplaintGeoIndex index;
+    private double[] queryLat;
+    private double[] queryLon;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = new ComplaintGeoIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < openComplaints; i++) {
+            index.put(i, point(random, CENTRE_LAT), point(random, CENTRE_LON), "Complaint " + i,
+                    CATEGORIES[i % CATEGORIES.length], Complains.Status.PENDING, now);
+        }
+        queryLat = new double[1024];
+        queryLon = new double[1024];
+        for (int i = 0; i < queryLat.length; i++) {
+            queryLat[i] = point(random, CENTRE_LAT);
+            queryLon[i] = point(random, CENTRE_LON);
+        }
+    }
+
+    private static double point(SplittableRandom random, double centre) {
+        return centre - SPAN / 2 + random.nextDouble() * SPAN;
+    }
+
+    /** What submit-time duplicate detection runs: same category within 150 m. */
+    @Benchmark
+    public List<NearbyComplaintDTO> duplicateSuggestion() {
+        int i = next++ & 1023;
+        return index.nearby(queryLat[i], queryLon[i], 150, "Roads", 5);
+    }
+
+    /** Admin "nearby" view: any category within 1 km. */
+    @Benchmark
+    public List<NearbyComplaintDTO> nearbyOneKilometre() {
+        int i = next++ & 1023;
+        return index.nearby(queryLat[i], queryLon[i], 1000, null, 20);
+    }
+}
@@ -0,0 +1,102 @@
+package com.infosys.SpringBoard.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * {@code saveAll} of a batch of new complaints in one transaction, the
+ * pattern used by bulk imports. Whether Hibernate can send the INSERTs as
+ * JDBC batches depends on the id generator, so besides the time per batch
+ * the benchmark counts rows inserted and JDBC statements Hibernate prepared.
+ * Without batching that is one per row. With it the INSERT is prepared once
+ * per flush and reused for every batch, so the count only shows that
+ * batching happened, not how many round trips it saves: on MySQL a batch is
+ * one round trip only with rewriteBatchedStatements=true (otherwise
+ * Connector/J still sends its rows one by one), i.e. about
+ * rows / batch_size. In-process H2 has no network round trip, so time
+ * here understates the gain against a remote MySQL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertBenchmark {
+
+    @Param({ "100", "1000" })
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ComplainRepository complainRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class JdbcCounters {
+        public long rows;
+        public long statements;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("insert");
+        complainRepository = context.getBean(ComplainRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Complains> saveAllComplaints(JdbcCounters counters) {
+        long before = statistics.getPrepareStatementCount();
+        List<Complains> batch = new ArrayList<>(batchSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batchSize; i++) {
+            Complains c = new Complains();
+            c.setUserId(i % 500);
+            c.setTitle("Imported " + i);
+            c.setCategory("Roads");
+            c.setDescription("Bulk import row " + i);
+            c.setCity("Pune");
+            c.setLocation("Ward " + (i % 60));
+            c.setCreatedAt(now);
+            batch.add(c);
+        }
+        List<Complains> saved = transactionTemplate.execute(status -> complainRepository.saveAll(batch));
+        counters.rows += batchSize;
+        counters.statements += statistics.getPrepareStatementCount() - before;
+        return saved;
+    }
+}
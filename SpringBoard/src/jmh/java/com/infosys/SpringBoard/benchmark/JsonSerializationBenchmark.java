@@ -0,0 +1,111 @@
+package com.infosys.SpringBoard.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infosys.SpringBoard.dto.ComplaintSummaryDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.entity.Worker;
+
+/**
+ * Jackson cost of the payloads the controllers return: a full
+ * {@link Department} graph (workers + complaints), a list of full
+ * {@link Complains} entities, and the same list as summary rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({ "50", "500" })
+    private int complaintCount;
+
+    private ObjectWriter writer;
+    private Department department;
+    private List<Complains> complaints;
+    private List<ComplaintSummaryDTO> summaries;
+
+    @Setup
+    public void setUp() {
+        // Same settings Spring Boot applies to the MVC ObjectMapper
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+
+        department = new Department();
+        department.setId(1);
+        department.setName("Water Supply");
+        department.setEmail("water@city.gov");
+
+        List<Worker> workers = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            workers.add(new Worker(i, "Worker " + i, "worker" + i + "@city.gov", "90000000" + i, department));
+        }
+        department.setWorkers(workers);
+
+        complaints = new ArrayList<>();
+        summaries = new ArrayList<>();
+        for (long i = 1; i <= complaintCount; i++) {
+            Complains c = new Complains();
+            c.setComplainId(i);
+            c.setUserId(i % 97);
+            c.setFirstName("Citizen");
+            c.setUserEmail("citizen" + i + "@mail.com");
+            c.setTitle("Leaking pipe #" + i);
+            c.setCategory("Water");
+            c.setDescription("Water has been leaking near the junction for several days. ".repeat(4));
+            c.setCity("Pune");
+            c.setLocation("MG Road, block " + (i % 40));
+            c.setStatus(Complains.Status.IN_PROGRESS);
+            c.setMessage("Crew dispatched");
+            c.setBeforeImagePath("3f2a9c0d1e8b7a6f5e4d3c2b1a0f9e8d7c6b5a4f3e2d1c0b9a8f7e6d5c4b3a2" + (i % 10) + ".jpg");
+            c.setDeadlineDate(LocalDate.of(2025, 6, 1));
+            c.setCreatedAt(LocalDateTime.of(2025, 5, 20, 10, 0));
+            c.setDepartment(department);
+            c.setAssignedWorkers(workers.subList(0, 3));
+            complaints.add(c);
+            summaries.add(new ComplaintSummaryDTO(c.getComplainId(), c.getTitle(), c.getCategory(), c.getStatus(),
+                    c.getCity(), c.getLocation(), c.getDeadlineDate(), c.getCreatedAt()));
+        }
+        department.setComplaints(complaints);
+    }
+
+    @Benchmark
+    public byte[] departmentGraph() throws JsonProcessingException {
+        return writer.writeValueAsBytes(department);
+    }
+
+    @Benchmark
+    public byte[] complaintEntities() throws JsonProcessingException {
+        return writer.writeValueAsBytes(complaints);
+    }
+
+    @Benchmark
+    public byte[] complaintSummaries() throws JsonProcessingException {
+        return writer.writeValueAsBytes(summaries);
+    }
+}
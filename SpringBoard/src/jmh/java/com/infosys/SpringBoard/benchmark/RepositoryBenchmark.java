@@ -0,0 +1,129 @@
+package com.infosys.SpringBoard.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import com.infosys.SpringBoard.dto.ComplaintSummaryDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+
+/**
+ * The list and count queries behind the admin and department dashboards,
+ * run through the real Spring Data repositories against an in-memory H2
+ * database in MySQL mode seeded with {@link #COMPLAINTS} rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    private static final int COMPLAINTS = 10_000;
+    private static final int DEPARTMENTS = 10;
+    private static final String[] CITIES = { "Pune", "Mumbai", "Delhi", "Chennai", "Kolkata" };
+    private static final String[] CATEGORIES = { "Water", "Roads", "Electricity", "Sanitation" };
+
+    private ConfigurableApplicationContext context;
+    private ComplainRepository complainRepository;
+    private long departmentId;
+    private long lastId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("bench");
+        complainRepository = context.getBean(ComplainRepository.class);
+        DepartmentRepo departmentRepo = context.getBean(DepartmentRepo.class);
+
+        List<Department> departments = new ArrayList<>();
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = new Department();
+            department.setName("Department " + d);
+            department.setEmail("dept" + d + "@city.gov");
+            department.setPassword("secret");
+            departments.add(departmentRepo.save(department));
+        }
+        departmentId = departments.get(0).getId();
+
+        List<Complains> batch = new ArrayList<>();
+        for (int i = 0; i < COMPLAINTS; i++) {
+            Complains c = new Complains();
+            c.setUserId(i % 500);
+            c.setTitle("Complaint " + i);
+            c.setCategory(CATEGORIES[i % CATEGORIES.length]);
+            c.setDescription("Benchmark row " + i);
+            c.setCity(CITIES[i % CITIES.length]);
+            c.setLocation("Ward " + (i % 60));
+            c.setStatus(Complains.Status.values()[i % 3]);
+            c.setDepartment(departments.get(i % DEPARTMENTS));
+            c.setDeadlineDate(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            c.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(i * 7L));
+            batch.add(c);
+        }
+        List<Complains> saved = complainRepository.saveAll(batch);
+        lastId = saved.get(saved.size() - 1).getComplainId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ComplaintSummaryDTO> summaryFirstPage() {
+        return complainRepository.findSummaryPageAfter(0, null, null, null, null, null, null, Limit.of(51));
+    }
+
+    @Benchmark
+    public List<ComplaintSummaryDTO> summaryDeepPageFiltered() {
+        return complainRepository.findSummaryPageAfter(lastId - 2_000, Complains.Status.PENDING, "Pune", null, null,
+                null, null, Limit.of(51));
+    }
+
+    @Benchmark
+    public List<Complains> entityFirstPage() {
+        return complainRepository.findPageAfter(0, null, null, null, null, null, null, Limit.of(51));
+    }
+
+    @Benchmark
+    public List<ComplaintSummaryDTO> summariesByDepartment() {
+        return complainRepository.findSummariesByDepartmentId(departmentId);
+    }
+
+    @Benchmark
+    public List<Complains> entitiesByDepartment() {
+        return complainRepository.findByDepartmentId(departmentId);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> countByStatus() {
+        return complainRepository.getComplaintCountByStatus();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> countByCity() {
+        return complainRepository.getComplaintCountByCity();
+    }
+}
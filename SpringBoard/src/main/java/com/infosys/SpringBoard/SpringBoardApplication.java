@@ -2,8 +2,10 @@ package com.infosys.SpringBoard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SpringBoardApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(SpringBoardApplication.class, args);
@@ -0,0 +1,86 @@
+package com.infosys.SpringBoard.config;
+
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    public static final String IMAGE_EXECUTOR = "imageTaskExecutor";
+    public static final String PASSWORD_EXECUTOR = "passwordVerifyExecutor";
+    public static final String SSE_EXECUTOR = "sseSendExecutor";
+
+    @Value("${image.pipeline.threads:2}")
+    private int imageThreads;
+
+    @Value("${image.pipeline.queue-capacity:200}")
+    private int imageQueueCapacity;
+
+    // 0 = half the cores (at least one)
+    @Value("${auth.verify.threads:0}")
+    private int passwordThreads;
+
+    @Value("${auth.verify.queue-capacity:200}")
+    private int passwordQueueCapacity;
+
+    /**
+     * Bounded pool for thumbnail/preview generation. When the queue is full
+     * the job is dropped rather than run on the caller: variants are
+     * optional and FileController falls back to the original image.
+     */
+    @Bean(name = IMAGE_EXECUTOR)
+    public Executor imageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageThreads);
+        executor.setMaxPoolSize(imageThreads);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Image pipeline queue full ({}); skipping variant generation", imageQueueCapacity));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded pool for BCrypt verification. Login CPU is capped at this many
+     * cores whatever the request rate, so a login spike can't starve other
+     * endpoints; when the queue is full the submit is rejected and the login
+     * answered with 503 instead of queueing without bound.
+     */
+    @Bean(name = PASSWORD_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordVerifyExecutor() {
+        int threads = passwordThreads > 0 ? passwordThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(passwordQueueCapacity);
+        executor.setThreadNamePrefix("password-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the writes of live-update streams. A write to a slow client blocks
+     * on its socket, so each runs on its own virtual thread, where blocking
+     * costs a few KB of memory rather than a pooled thread. Each subscriber
+     * has at most one write in flight.
+     */
+    @Bean(name = SSE_EXECUTOR)
+    public Executor sseSendExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sse-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
@@ -0,0 +1,55 @@
+package com.infosys.SpringBoard.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // --- Cache names (shared by @Cacheable / @CacheEvict) ---
+    public static final String DEPARTMENTS = "departments";
+    public static final String WORKERS_BY_DEPARTMENT = "workersByDepartment";
+
+    @Value("${cache.departments.ttl-minutes:60}")
+    private long departmentsTtlMinutes;
+
+    @Value("${cache.workers.ttl-minutes:30}")
+    private long workersTtlMinutes;
+
+    @Value("${cache.workers.max-size:1000}")
+    private long workersMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager();
+        // Only the caches registered below exist; a typo in a cache name fails fast
+        caffeine.setCacheNames(List.of());
+
+        caffeine.registerCustomCache(DEPARTMENTS, Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(Duration.ofMinutes(departmentsTtlMinutes))
+                .recordStats()
+                .build());
+
+        caffeine.registerCustomCache(WORKERS_BY_DEPARTMENT, Caffeine.newBuilder()
+                .maximumSize(workersMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(workersTtlMinutes))
+                .recordStats()
+                .build());
+
+        // Evictions issued inside a transaction are applied after commit, so a
+        // concurrent reader can't re-populate the cache with pre-commit data.
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,73 @@
+package com.infosys.SpringBoard.config;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.infosys.SpringBoard.entity.IdSequences;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Migration path from AUTO_INCREMENT ids to the table generators: on
+ * startup, after Hibernate has created {@code id_sequences}, moves each
+ * generator row past the highest id already in its table so new blocks
+ * never collide with rows inserted under IDENTITY. The update only ever
+ * raises the value, so it is safe to run on every node and every restart.
+ */
+@Component
+public class IdSequenceInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    // generator row -> "table.id_column"
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "complains", "complains.complain_id",
+            "departments", "departments.id",
+            "worker", "worker.id",
+            "users", "users.id");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Depending on the EntityManagerFactory orders this after schema update
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach((name, column) -> {
+            String[] parts = column.split("\\.");
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + parts[1] + "), 0) FROM " + parts[0], Long.class);
+            if (maxId == null || maxId == 0) {
+                return; // empty table: Hibernate creates the row on first use
+            }
+            // The pooled optimizer never hands out ids at or below next_val - allocation
+            long floor = maxId + IdSequences.ALLOCATION_SIZE;
+            int raised = jdbcTemplate.update(
+                    "UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = ? WHERE "
+                            + IdSequences.NAME_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " < ?",
+                    floor, name, floor);
+            if (raised == 0) {
+                try {
+                    raised = jdbcTemplate.update(
+                            "INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", "
+                                    + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)",
+                            name, floor);
+                } catch (DuplicateKeyException e) {
+                    return; // row exists and is already past maxId
+                }
+            }
+            if (raised > 0) {
+                log.info("Id generator '{}' moved past existing max id {}", name, maxId);
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.infosys.SpringBoard.config;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.infosys.SpringBoard.services.AccessTokenService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authenticates requests carrying {@code Authorization: Bearer <token>} from
+ * the token alone (signature and expiry, no database access). The principal
+ * is the token's {@link AccessTokenService.Claims}.
+ * <p>
+ * A missing or invalid token leaves the request anonymous; the authorization
+ * rules in {@link SecurityConfig} then decide whether that is enough.
+ * <p>
+ * Live-update streams ({@code GET .../stream}) may pass the token as the
+ * {@code access_token} query parameter instead, because the browser's
+ * EventSource cannot set headers.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String STREAM_SUFFIX = "/stream";
+    private static final String TOKEN_PARAMETER = "access_token";
+
+    private final AccessTokenService accessTokenService;
+
+    public JwtAuthenticationFilter(AccessTokenService accessTokenService) {
+        this.accessTokenService = accessTokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = bearerToken(request);
+        if (token != null) {
+            accessTokenService.verify(token).ifPresent(claims -> {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(claims, null,
+                        List.of(new SimpleGrantedAuthority(claims.role().authority()))));
+                SecurityContextHolder.setContext(context);
+            });
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        if ("GET".equals(request.getMethod()) && request.getRequestURI().endsWith(STREAM_SUFFIX)) {
+            return request.getParameter(TOKEN_PARAMETER);
+        }
+        return null;
+    }
+
+    // Async (CompletableFuture, streaming) and error dispatches run the
+    // security chain again; re-verifying is cheap and keeps them authenticated
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+}
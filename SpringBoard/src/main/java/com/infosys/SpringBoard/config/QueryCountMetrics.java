@@ -0,0 +1,75 @@
+package com.infosys.SpringBoard.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many SQL statements each HTTP request issued, as the
+ * {@code http.server.requests.queries} distribution tagged with method and
+ * URI pattern like the request timer. Hibernate passes every statement it
+ * prepares through the inspector on the request thread, so a per-thread
+ * counter opened by the interceptor is enough (including with virtual
+ * threads). Endpoints whose count grows with the result size are N+1s.
+ */
+@Configuration
+public class QueryCountMetrics implements WebMvcConfigurer {
+
+    private static final ThreadLocal<int[]> STATEMENTS = new ThreadLocal<>();
+
+    private static final StatementInspector COUNTING_INSPECTOR = sql -> {
+        int[] count = STATEMENTS.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    };
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, COUNTING_INSPECTOR);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                STATEMENTS.set(new int[1]);
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                    Exception ex) {
+                int[] count = STATEMENTS.get();
+                STATEMENTS.remove();
+                if (count == null) {
+                    return;
+                }
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                DistributionSummary.builder("http.server.requests.queries")
+                        .description("SQL statements executed per request")
+                        .tag("method", request.getMethod())
+                        .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                        .register(meterRegistry)
+                        .record(count[0]);
+            }
+        });
+    }
+}
@@ -1,14 +1,28 @@
 package com.infosys.SpringBoard.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration; // NEW IMPORT
 import org.springframework.web.cors.CorsConfigurationSource; // NEW IMPORT
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource; // NEW IMPORT
 import java.util.Arrays; // NEW IMPORT
 
+import com.infosys.SpringBoard.services.AccessTokenService;
+import com.infosys.SpringBoard.services.AccessTokenService.Role;
+
 @Configuration
 public class SecurityConfig {
 
@@ -23,6 +37,8 @@ public class SecurityConfig {
         // Allow common headers and methods
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*")); 
+        // Logins return the access token in Authorization; complaint lists carry an ETag
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
         
         // Important for allowing credentials (Basic Auth, Cookies, etc.)
         configuration.setAllowCredentials(true); 
@@ -33,18 +49,73 @@ public class SecurityConfig {
         return source;
     }
 
-    // --- 2. Security Filter Chain (Minimal Change) ---
+    // --- 2. Password hashing ---
+    // Raising the strength takes effect for existing users at their next
+    // successful login, when UserService re-hashes the password.
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // --- 3. Security Filter Chain ---
+    // Stateless: every request is authorized from its bearer token (see
+    // JwtAuthenticationFilter), so no session and no per-request DB lookup.
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AccessTokenService accessTokenService)
+            throws Exception {
         http
             // CRITICAL FIX: Integrate the CORS configuration bean
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-            
-            // Keep your existing rules unchanged:
-            .csrf().disable() // disable CSRF for APIs
-            .authorizeHttpRequests()
-            .anyRequest().permitAll(); // allow all requests without authentication
+            .csrf(csrf -> csrf.disable()) // disable CSRF for APIs (no cookies are used)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterBefore(new JwtAuthenticationFilter(accessTokenService),
+                    UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(ex -> ex
+                    .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+            .authorizeHttpRequests(auth -> auth
+                    // Public: CORS preflight, logins, sign-up, images and the health check
+                    .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                    .requestMatchers("/error", "/actuator/health", "/actuator/health/**",
+                            "/api/files/download/**").permitAll()
+                    // Metrics, caches (which can be cleared) and the rest of actuator
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.POST, "/api/users/signup", "/api/users/login",
+                            "/api/admin/login", "/api/dept-manager/login").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/dept-manager/all-names").permitAll()
+
+                    .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
+                    // Citizens only see their own history
+                    .requestMatchers("/api/users/complaints/history/{userId}",
+                            "/api/users/{userId}/complaints/stream")
+                            .access(subjectOrAdmin("userId", Role.USER))
+                    .requestMatchers(HttpMethod.GET, "/api/users/complaints/*/rating").authenticated()
+                    .requestMatchers("/api/users/**").hasRole("USER")
+
+                    // Complaint details (workers' contacts included) are for departments and admins;
+                    // ComplainService checks the complaint is assigned to the caller's department
+                    .requestMatchers("/api/dept-manager/complaints/**").hasAnyRole("DEPARTMENT", "ADMIN")
+                    // A department manager only works on their own department
+                    .requestMatchers("/api/dept-manager/{deptId}/**")
+                            .access(subjectOrAdmin("deptId", Role.DEPARTMENT))
+
+                    .anyRequest().authenticated());
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Grants admins, and callers with {@code role} whose token subject equals
+     * the path variable; decided from the token alone.
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> subjectOrAdmin(String pathVariable, Role role) {
+        return (authentication, context) -> {
+            if (authentication.get() != null
+                    && authentication.get().getPrincipal() instanceof AccessTokenService.Claims claims) {
+                return new AuthorizationDecision(claims.role() == Role.ADMIN || (claims.role() == role
+                        && String.valueOf(claims.subjectId()).equals(context.getVariables().get(pathVariable))));
+            }
+            return new AuthorizationDecision(false);
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.infosys.SpringBoard.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Active only in virtual-thread mode. Streams the JFR
+ * {@code jdk.VirtualThreadPinned} event and logs every case where a virtual
+ * thread blocked while pinned to its carrier (typically I/O inside a
+ * {@code synchronized} block) for longer than the threshold, with the
+ * frames that caused it. Pinning silently caps throughput at the number of
+ * carrier threads, so these warnings should be fixed rather than ignored.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final int MAX_FRAMES = 8;
+
+    @Value("${threads.virtual.pinning-threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::report);
+        stream.startAsync();
+        log.info("Virtual threads enabled; reporting pinned sections longer than {} ms", thresholdMs);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void report(RecordedEvent event) {
+        StringBuilder frames = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            event.getStackTrace().getFrames().stream()
+                    .limit(MAX_FRAMES)
+                    .map(RecordedFrame::getMethod)
+                    .forEach(method -> frames.append("\n\tat ")
+                            .append(method.getType().getName()).append('.').append(method.getName()));
+        }
+        log.warn("Virtual thread pinned for {} ms on thread {}{}",
+                event.getDuration().toMillis(), event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                frames);
+    }
+}
@@ -1,9 +1,14 @@
 package com.infosys.SpringBoard.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -11,16 +16,30 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.infosys.SpringBoard.dto.BulkComplaintUpdateRequest;
+import com.infosys.SpringBoard.dto.ComplaintFilterDTO;
 import com.infosys.SpringBoard.dto.DepartmentComplaintCountDTO;
 import com.infosys.SpringBoard.entity.Admin;
 import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.services.AccessTokenService;
 import com.infosys.SpringBoard.services.AdminService;
 import com.infosys.SpringBoard.services.ComplainService;
+import com.infosys.SpringBoard.services.ComplaintExportService;
+import com.infosys.SpringBoard.services.ComplaintGeoIndex;
+import com.infosys.SpringBoard.services.ComplaintImportService;
+import com.infosys.SpringBoard.services.ComplaintSearchService;
+import com.infosys.SpringBoard.services.ComplaintVersions;
+import com.infosys.SpringBoard.services.OptimisticRetry;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -33,20 +52,59 @@ public class AdminController {
     @Autowired
     private ComplainService complainService;
 
+    @Autowired
+    private ComplaintImportService complaintImportService;
+
+    @Autowired
+    private ComplaintExportService complaintExportService;
+
+    @Autowired
+    private ComplaintSearchService complaintSearchService;
+
+    @Autowired
+    private ComplaintGeoIndex complaintGeoIndex;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    @Autowired
+    private ComplaintVersions complaintVersions;
+
+    /** On success the access token for the other admin endpoints is in the Authorization header. */
     @PostMapping("/login")
     public ResponseEntity<String> login(@RequestBody Admin admin) {
-        if (adminService.loginUser(admin.getEmail(), admin.getPassword())) {
-            // Success: Return 200 OK
-            return new ResponseEntity<>("Login successful", HttpStatus.OK);
-        } else {
-            // Failure: Return 401 Unauthorized (Standard for authentication failure)
-            return new ResponseEntity<>("Invalid email or password", HttpStatus.UNAUTHORIZED);
-        }
+        return adminService.loginUser(admin.getEmail(), admin.getPassword())
+                // Success: Return 200 OK
+                .map(a -> ResponseEntity.ok()
+                        .header(HttpHeaders.AUTHORIZATION,
+                                "Bearer " + accessTokenService.issue(a.getId(), AccessTokenService.Role.ADMIN))
+                        .body("Login successful"))
+                // Failure: Return 401 Unauthorized (Standard for authentication failure)
+                .orElseGet(() -> new ResponseEntity<>("Invalid email or password", HttpStatus.UNAUTHORIZED));
     }
 
+    /**
+     * Without query parameters this returns every complaint (legacy console).
+     * Passing {@code cursor}, {@code size} or any filter
+     * (status, city, category, departmentId, from, to) switches to keyset
+     * pagination: {"items": [...], "nextCursor": 123, "hasMore": true}.
+     * Rows are summaries unless {@code view=full} is requested.
+     */
     @GetMapping("/complaints")
-    public List<Complains> getAllComplaints() {
-        return adminService.getAllComplaints();
+    public ResponseEntity<?> getAllComplaints(
+            ComplaintFilterDTO filter,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "view", defaultValue = "summary") String view) {
+
+        boolean full = "full".equalsIgnoreCase(view);
+
+        if (cursor == null && size == null && filter.isEmpty()) {
+            return ResponseEntity.ok(full ? adminService.getAllComplaints() : adminService.getAllComplaintSummaries());
+        }
+        return ResponseEntity.ok(full
+                ? adminService.getComplaintsPage(filter, cursor, size)
+                : adminService.getComplaintSummaryPage(filter, cursor, size));
     }
 
     /**
@@ -66,9 +124,13 @@ public class AdminController {
         }
 
         // Delegation to the business logic layer
-        return adminService.updateComplainStatus(complainId, newStatus, message)
-                .<ResponseEntity<?>>map(updatedComplain -> new ResponseEntity<>(updatedComplain, HttpStatus.OK))
-                .orElseGet(() -> new ResponseEntity<>("Complaint not found or status invalid.", HttpStatus.NOT_FOUND));
+        try {
+            return adminService.updateComplainStatus(complainId, newStatus, message)
+                    .<ResponseEntity<?>>map(updatedComplain -> new ResponseEntity<>(updatedComplain, HttpStatus.OK))
+                    .orElseGet(() -> new ResponseEntity<>("Complaint not found or status invalid.", HttpStatus.NOT_FOUND));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(OptimisticRetry.CONFLICT_MESSAGE, HttpStatus.CONFLICT);
+        }
     }
 
     @PutMapping("/complaints/{id}/assign-department")
@@ -85,9 +147,29 @@ public class AdminController {
         }
 
         // Pass the new parameter to the service
-        return adminService.assignComplaintToDepartment(complainId, departmentId, timelineDays)
-                .<ResponseEntity<?>>map(updatedComplain -> new ResponseEntity<>(updatedComplain, HttpStatus.OK))
-                .orElseGet(() -> new ResponseEntity<>("Complaint or Department not found.", HttpStatus.NOT_FOUND));
+        try {
+            return adminService.assignComplaintToDepartment(complainId, departmentId, timelineDays)
+                    .<ResponseEntity<?>>map(updatedComplain -> new ResponseEntity<>(updatedComplain, HttpStatus.OK))
+                    .orElseGet(() -> new ResponseEntity<>("Complaint or Department not found.", HttpStatus.NOT_FOUND));
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(OptimisticRetry.CONFLICT_MESSAGE, HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Bulk triage: applies a status, department and/or deadline change to
+     * the listed ids (or to everything matching a filter) in one transaction.
+     * Returns an outcome per complaint: UPDATED, UNCHANGED or NOT_FOUND.
+     */
+    @PutMapping("/complaints/bulk")
+    public ResponseEntity<?> bulkUpdateComplaints(@RequestBody BulkComplaintUpdateRequest request) {
+        try {
+            return ResponseEntity.ok(adminService.bulkUpdate(request));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(OptimisticRetry.CONFLICT_MESSAGE, HttpStatus.CONFLICT);
+        }
     }
 
     @GetMapping("/complaints/{complainId}/feedback")
@@ -99,14 +181,178 @@ public class AdminController {
                         .body(Map.of("message", "Complaint not found or feedback not available")));
     }
 
+    // Dashboard counts: 304 while the in-memory counters are unchanged
     @GetMapping("/complaints/department-count")
-    public ResponseEntity<List<DepartmentComplaintCountDTO>> getComplaintCountByDepartment() {
+    public ResponseEntity<List<DepartmentComplaintCountDTO>> getComplaintCountByDepartment(WebRequest request) {
+        String etag = complaintVersions.dashboardEtag("department-count");
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         List<DepartmentComplaintCountDTO> data = complainService.getComplaintCountByDepartment();
-        return ResponseEntity.ok(data);
+        return ResponseEntity.ok().cacheControl(ComplaintVersions.REVALIDATE).eTag(etag).body(data);
     }
 
     @GetMapping("/complaints/city-count")
-    public List<Map<String, Object>> getComplaintCountByCity() {
-        return complainService.getComplaintCountByCity();
+    public ResponseEntity<List<Map<String, Object>>> getComplaintCountByCity(WebRequest request) {
+        String etag = complaintVersions.dashboardEtag("city-count");
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ComplaintVersions.REVALIDATE).eTag(etag)
+                .body(complainService.getComplaintCountByCity());
+    }
+
+    @GetMapping("/complaints/category-count")
+    public ResponseEntity<Map<String, Long>> getComplaintCountByCategory(WebRequest request) {
+        String etag = complaintVersions.dashboardEtag("category-count");
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ComplaintVersions.REVALIDATE).eTag(etag)
+                .body(complainService.getComplaintCountByCategory());
+    }
+
+    @GetMapping("/complaints/status-count")
+    public ResponseEntity<Map<String, Long>> getComplaintCountByStatus(WebRequest request) {
+        String etag = complaintVersions.dashboardEtag("status-count");
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ComplaintVersions.REVALIDATE).eTag(etag)
+                .body(complainService.getComplaintCountByStatus());
+    }
+
+    // --- Bulk import ---
+
+    /**
+     * Streams a CSV (with header) or NDJSON request body into complaints.
+     * Send the raw file as the body, e.g. {@code curl --data-binary @file.csv
+     * -H 'Content-Type: text/csv'}. If the result is FAILED, send the same
+     * file again with {@code resume=<importId>} to continue after the last
+     * committed record. Progress is visible at GET /imports/{id}.
+     */
+    @PostMapping("/complaints/import")
+    public ResponseEntity<?> importComplaints(
+            @RequestParam(value = "format", required = false) String format,
+            @RequestParam(value = "fileName", required = false) String fileName,
+            @RequestParam(value = "resume", required = false) Long resumeId,
+            HttpServletRequest request) throws IOException {
+        ComplaintImportService.Format importFormat;
+        try {
+            importFormat = ComplaintImportService.Format.detect(format, request.getContentType());
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        try {
+            return ResponseEntity.ok(
+                    complaintImportService.importComplaints(request.getInputStream(), importFormat, fileName, resumeId));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    @GetMapping("/imports/{id}")
+    public ResponseEntity<?> getImportProgress(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(complaintImportService.getProgress(id));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    // --- Export ---
+
+    /**
+     * Streams complaints matching the optional filters (same as GET
+     * /complaints) as {@code format=csv} or {@code format=ndjson}. The body
+     * is gzip-compressed when {@code gzip=true}, or when the parameter is
+     * absent and the client sends Accept-Encoding: gzip.
+     */
+    @GetMapping("/complaints/export")
+    public void exportComplaints(
+            ComplaintFilterDTO filter,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "gzip", required = false) Boolean gzip,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        ComplaintExportService.Format exportFormat;
+        try {
+            exportFormat = ComplaintExportService.Format.fromParam(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            return;
+        }
+
+        boolean compress = gzip != null ? gzip
+                : String.valueOf(request.getHeader(HttpHeaders.ACCEPT_ENCODING)).contains("gzip");
+        String fileName = "complaints." + exportFormat.extension();
+
+        response.setContentType(exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (compress) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream out = response.getOutputStream();
+        if (compress) {
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192)) {
+                complaintExportService.export(filter, exportFormat, gzipOut);
+            }
+        } else {
+            complaintExportService.export(filter, exportFormat, out);
+        }
+    }
+
+    // --- Nearby ---
+
+    /** Open complaints within {@code radius} metres (max 5 km), nearest first. */
+    @GetMapping("/complaints/nearby")
+    public ResponseEntity<?> getNearbyComplaints(
+            @RequestParam("latitude") double latitude,
+            @RequestParam("longitude") double longitude,
+            @RequestParam(value = "radius", defaultValue = "500") int radius,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(complaintGeoIndex.nearby(latitude, longitude, radius, category, limit));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // --- Search ---
+
+    /**
+     * Ranked full-text search over title, description, location, city and
+     * category; words match as prefixes too. Optional {@code status} and
+     * {@code departmentId} narrow the results. Paged with {@code page}
+     * (0-based) and {@code size}.
+     */
+    @GetMapping("/complaints/search")
+    public ResponseEntity<?> searchComplaints(
+            @RequestParam("q") String q,
+            @RequestParam(value = "status", required = false) Complains.Status status,
+            @RequestParam(value = "departmentId", required = false) Long departmentId,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) throws IOException {
+        try {
+            return ResponseEntity.ok(complaintSearchService.search(q, status, departmentId, page, size));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** Rebuilds the search index from the database on all cores; 409 if one is already running. */
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<?> rebuildSearchIndex() throws IOException {
+        try {
+            return ResponseEntity.ok(complaintSearchService.rebuild());
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,34 @@
 package com.infosys.SpringBoard.controller;
 
 import com.infosys.SpringBoard.dto.DepartmentLoginRequest;
+import com.infosys.SpringBoard.dto.DepartmentSummaryDTO;
+import com.infosys.SpringBoard.dto.WorkerSummaryDTO;
 import com.infosys.SpringBoard.entity.Complains;
 import com.infosys.SpringBoard.entity.Department;
 import com.infosys.SpringBoard.entity.Worker;
 import com.infosys.SpringBoard.repository.ComplainRepository;
-import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.services.AccessTokenService;
 import com.infosys.SpringBoard.services.ComplainService;
+import com.infosys.SpringBoard.services.ComplaintSearchService;
+import com.infosys.SpringBoard.services.ComplaintUpdateStream;
+import com.infosys.SpringBoard.services.ComplaintVersions;
 import com.infosys.SpringBoard.services.DepartmentService;
+import com.infosys.SpringBoard.services.MalformedImageException;
+import com.infosys.SpringBoard.services.OptimisticRetry;
 import com.infosys.SpringBoard.services.WorkerService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -39,10 +53,19 @@ public class DepartmentManagementController {
     private ComplainRepository complainRepository;
 
     @Autowired
-    private DepartmentRepo departmentRepository;
+    private ComplainService complainService;
 
     @Autowired
-    private ComplainService complainService;
+    private ComplaintSearchService complaintSearchService;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    @Autowired
+    private ComplaintUpdateStream complaintUpdateStream;
+
+    @Autowired
+    private ComplaintVersions complaintVersions;
 
     @PostMapping("/login")
     public ResponseEntity<Long> login(@RequestBody DepartmentLoginRequest loginRequest) { // -> Working but returning
@@ -55,7 +78,12 @@ public class DepartmentManagementController {
                 loginRequest.getPassword());
 
         if (deptOptional.isPresent()) {
-            return new ResponseEntity<>(deptOptional.get().getId(), HttpStatus.OK);
+            // The access token for this department's endpoints goes in the Authorization header
+            Long deptId = deptOptional.get().getId();
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.AUTHORIZATION,
+                            "Bearer " + accessTokenService.issue(deptId, AccessTokenService.Role.DEPARTMENT))
+                    .body(deptId);
         } else {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
@@ -72,19 +100,57 @@ public class DepartmentManagementController {
     }
 
     @GetMapping("/{deptId}/workers") // -> working
-    public List<Worker> getWorkersByDepartment(@PathVariable Long deptId) {
+    public List<WorkerSummaryDTO> getWorkersByDepartment(@PathVariable Long deptId) {
         return workerService.getWorkersByDepartmentId(deptId);
     }
 
     @GetMapping("/{deptId}/complaints") // -> working
-    public List<Complains> getAssignedComplaints(@PathVariable Long deptId) {
-        return complaintService.getComplaintsByDepartmentId(deptId);
+    public ResponseEntity<List<?>> getAssignedComplaints(
+            @PathVariable Long deptId,
+            @RequestParam(value = "view", defaultValue = "summary") String view,
+            WebRequest request) {
+        // Summary rows by default; ?view=full returns the complete entities
+        boolean full = "full".equalsIgnoreCase(view);
+        String etag = complaintVersions.departmentEtag(deptId, full ? "full" : "summary");
+        if (request.checkNotModified(etag)) {
+            return null; // 304: no complaint of this department changed since the client's copy
+        }
+        List<?> complaints = full
+                ? complaintService.getComplaintsByDepartmentId(deptId)
+                : complaintService.getComplaintSummariesByDepartmentId(deptId);
+        return ResponseEntity.ok().cacheControl(ComplaintVersions.REVALIDATE).eTag(etag).body(complaints);
+    }
+
+    // Same search as the admin console, limited to this department's complaints
+    @GetMapping("/{deptId}/complaints/search")
+    public ResponseEntity<?> searchAssignedComplaints(
+            @PathVariable Long deptId,
+            @RequestParam("q") String q,
+            @RequestParam(value = "status", required = false) Complains.Status status,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size) throws IOException {
+        try {
+            return ResponseEntity.ok(complaintSearchService.search(q, status, deptId, page, size));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Live updates of this department's complaints (Server-Sent Events), instead of re-fetching the list
+    @GetMapping(path = "/{deptId}/complaints/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAssignedComplaints(@PathVariable Long deptId) {
+        try {
+            return ResponseEntity.ok(complaintUpdateStream.subscribeDepartment(deptId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
     }
 
     @PutMapping("/complaints/{complaintId}/status") // -> working
-    public ResponseEntity<Complains> updateStatus(
+    public ResponseEntity<?> updateStatus(
             @PathVariable Long complaintId,
-            @RequestBody Map<String, String> updateDetails) {
+            @RequestBody Map<String, String> updateDetails,
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
 
         String newStatusStr = updateDetails.get("status");
         String message = updateDetails.get("message");
@@ -94,11 +160,15 @@ public class DepartmentManagementController {
         }
 
         try {
-            return complaintService.updateStatusAndMessage(complaintId, newStatusStr, message)
-                    .map(updatedComplaint -> new ResponseEntity<>(updatedComplaint, HttpStatus.OK))
+            return complaintService.updateStatusAndMessage(complaintId, newStatusStr, message, caller)
+                    .<ResponseEntity<?>>map(updatedComplaint -> new ResponseEntity<>(updatedComplaint, HttpStatus.OK))
                     .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(OptimisticRetry.CONFLICT_MESSAGE, HttpStatus.CONFLICT);
         }
     }
 
@@ -107,7 +177,8 @@ public class DepartmentManagementController {
             @PathVariable Long complaintId,
             @RequestParam("imageFile") MultipartFile imageFile,
             @RequestParam("message") String message,
-            @RequestParam("workerIds") String workerIdsString) {
+            @RequestParam("workerIds") String workerIdsString,
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
 
         if (imageFile == null || imageFile.isEmpty() || workerIdsString == null || message == null) {
             return new ResponseEntity<>("Missing required completion data (image, message, or workerIds).",
@@ -119,15 +190,22 @@ public class DepartmentManagementController {
                     complaintId,
                     imageFile,
                     message,
-                    workerIdsString);
+                    workerIdsString,
+                    caller);
 
             return updatedComplaint
                     .<ResponseEntity<?>>map(c -> new ResponseEntity<>(c, HttpStatus.OK))
                     .orElseGet(
                             () -> new ResponseEntity<>("Complaint or Worker assignment failed.", HttpStatus.NOT_FOUND));
 
+        } catch (MalformedImageException e) {
+            return new ResponseEntity<>("The image could not be read: " + e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.FORBIDDEN);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(OptimisticRetry.CONFLICT_MESSAGE, HttpStatus.CONFLICT);
         } catch (IOException e) {
             return new ResponseEntity<>("File storage failed on server: " + e.getMessage(),
                     HttpStatus.INTERNAL_SERVER_ERROR);
@@ -135,23 +213,37 @@ public class DepartmentManagementController {
     }
 
     @GetMapping("/all-names")
-    public ResponseEntity<List<Department>> getAllDepartments() {
-        List<Department> departments = departmentService.getAllDepartments();
+    public ResponseEntity<List<DepartmentSummaryDTO>> getAllDepartments() {
+        List<DepartmentSummaryDTO> departments = departmentService.getAllDepartments();
 
         return new ResponseEntity<>(departments, HttpStatus.OK);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Department> getDepartmentById(@PathVariable Long id) {
-        return departmentRepository.findById(id)
-                .map(department -> new ResponseEntity<>(department, HttpStatus.OK))
+    public ResponseEntity<?> getDepartmentById(
+            @PathVariable Long id,
+            @RequestParam(value = "view", defaultValue = "summary") String view) {
+        // (id, name) by default; ?view=full returns the department with its workers and complaints
+        Optional<?> department = "full".equalsIgnoreCase(view)
+                ? departmentService.getDepartmentDetails(id)
+                : departmentService.getDepartmentSummary(id);
+
+        return department
+                .<ResponseEntity<?>>map(d -> new ResponseEntity<>(d, HttpStatus.OK))
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @GetMapping("/complaints/{complainId}/workers")
-    public ResponseEntity<List<Worker>> getAssignedWorkersForComplaint(@PathVariable Long complainId) {
+    public ResponseEntity<List<Worker>> getAssignedWorkersForComplaint(
+            @PathVariable Long complainId,
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
 
-        List<Worker> workers = complaintService.getWorkersByComplaintId(complainId);
+        List<Worker> workers;
+        try {
+            workers = complaintService.getWorkersByComplaintId(complainId, caller);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
 
         if (workers.isEmpty()) {
             return ResponseEntity.ok(workers);
@@ -161,8 +253,15 @@ public class DepartmentManagementController {
     }
 
     @GetMapping("/complaints/{complainId}/department-name")
-    public ResponseEntity<String> getDepartmentNameForComplaint(@PathVariable Long complainId) {
-        Optional<String> departmentName = complaintService.getDepartmentNameByComplainId(complainId);
+    public ResponseEntity<String> getDepartmentNameForComplaint(
+            @PathVariable Long complainId,
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
+        Optional<String> departmentName;
+        try {
+            departmentName = complaintService.getDepartmentNameByComplainId(complainId, caller);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
 
         return departmentName
                 .map(name -> new ResponseEntity<>(name, HttpStatus.OK))
@@ -170,21 +269,34 @@ public class DepartmentManagementController {
     }
 
     @GetMapping("/complaints/{complainId}/deadline")
-    public ResponseEntity<LocalDate> getDeadlineDate(@PathVariable Long complainId) {
-        return complainService.getDeadlineDateByComplainId(complainId)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<LocalDate> getDeadlineDate(
+            @PathVariable Long complainId,
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
+        try {
+            return complainService.getDeadlineDateByComplainId(complainId, caller)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
     }
 
     @GetMapping("/complaints/{id}/completion-time")
-    public ResponseEntity<String> getCompletionTime(@PathVariable Long id) {
+    public ResponseEntity<String> getCompletionTime(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
         Optional<Complains> complaintOpt = complainRepository.findById(id);
 
         if (complaintOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Complaint not found");
         }
+        try {
+            ComplainService.checkHandledBy(complaintOpt.get(), caller);
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+        }
 
         String result = complainService.calculateCompletionTime(complaintOpt.get());
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+}
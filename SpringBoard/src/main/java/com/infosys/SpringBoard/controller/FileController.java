@@ -1,52 +1,187 @@
 package com.infosys.SpringBoard.controller;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.net.MalformedURLException;
+import com.infosys.SpringBoard.services.ImageStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/files")
 public class FileController {
 
-    // Read the file upload directory from application.properties
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    // Image names are content hashes (or legacy UUIDs) and never rewritten, so clients may cache them forever
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // The original standing in for a variant not generated yet: revalidate, and the ETag changes once it is
+    private static final String FALLBACK_CACHE_CONTROL = "public, no-cache";
+
+    // Tomcat request attributes for zero-copy sendfile (see org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
 
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    /**
+     * Streams an uploaded image, or its {@code thumb}/{@code preview} variant
+     * when {@code size} asks for one and it has been generated. Supports conditional requests
+     * (If-None-Match / If-Modified-Since → 304), single byte ranges
+     * (Range / If-Range → 206) and HEAD. Files on this node's disk are handed
+     * to Tomcat's sendfile when available, otherwise copied with
+     * FileChannel.transferTo; objects in a remote store are streamed through.
+     */
     @GetMapping("/download/{filename:.+}") // :.+ ensures the file extension is included in the path variable
-    public ResponseEntity<Resource> downloadFile(@PathVariable String filename) {
+    public void downloadFile(@PathVariable String filename,
+            @RequestParam(value = "size", defaultValue = "original") String size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        ImageStorageService.Variant variant;
         try {
-            // 1. Construct the full path to the file
-            Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-
-            // 2. Check if the file exists and is readable
-            if (resource.exists() || resource.isReadable()) {
-                // Determine content type (though the browser is smart enough)
-                String contentType = "application/octet-stream"; 
-                if (filename.toLowerCase().endsWith(".png")) {
-                    contentType = "image/png";
-                } else if (filename.toLowerCase().endsWith(".jpg") || filename.toLowerCase().endsWith(".jpeg")) {
-                    contentType = "image/jpeg";
+            variant = ImageStorageService.Variant.fromParam(size);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "size must be thumb, preview or original");
+            return;
+        }
+
+        // 1. Resolve the object (the service refuses anything but plain file names)
+        Optional<ImageStorageService.StoredImage> resolved = imageStorageService.resolve(filename, variant);
+        if (resolved.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        ImageStorageService.StoredImage image = resolved.get();
+
+        // 2. Validators: size + mtime is enough since objects are write-once
+        long length = image.size();
+        long lastModified = image.lastModified();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                image.variant() == variant ? IMMUTABLE_CACHE_CONTROL : FALLBACK_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // Writes ETag/Last-Modified and, when the client copy is current, a 304
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        // 3. Work out which bytes to send
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                // Multi-range requests are answered with the full body, which RFC 9110 allows
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start >= length || end < start) {
+                        throw new IllegalArgumentException("Range not satisfiable: " + rangeHeader);
+                    }
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
                 }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+        }
+        long contentLength = end - start + 1;
 
-                // 3. Return the file as a response
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
+        // Content-addressed blobs have no extension on disk: fall back to the requested name's
+        String servedName = image.fileName();
+        response.setContentType(contentTypeOf(servedName.contains(".") ? servedName : filename).toString());
+        response.setContentLengthLong(contentLength);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"");
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || contentLength == 0) {
+            return;
+        }
+
+        // 4. Send the bytes: kernel sendfile via Tomcat, else a channel-to-channel copy
+        Path filePath = image.localFile();
+        if (filePath == null) {
+            try (InputStream in = imageStorageService.open(image, start, end)) {
+                OutputStream out = response.getOutputStream();
+                byte[] buffer = new byte[64 * 1024];
+                long remaining = contentLength;
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        break;
+                    }
+                    out.write(buffer, 0, read);
+                    remaining -= read;
+                }
+            }
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, filePath.toRealPath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = contentLength;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
             }
-        } catch (MalformedURLException ex) {
-            return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    /** A Range applies only if If-Range is absent or still names the current representation. */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static MediaType contentTypeOf(String filename) {
+        if (filename.toLowerCase().endsWith(".avif")) {
+            return MediaType.parseMediaType("image/avif");
+        }
+        return MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
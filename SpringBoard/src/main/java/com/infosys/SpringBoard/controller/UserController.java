@@ -4,10 +4,18 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.infosys.SpringBoard.entity.Complains;
 import com.infosys.SpringBoard.entity.User;
+import com.infosys.SpringBoard.services.AccessTokenService;
 import com.infosys.SpringBoard.services.ComplainService;
+import com.infosys.SpringBoard.services.ComplaintGeoIndex;
+import com.infosys.SpringBoard.services.ComplaintUpdateStream;
+import com.infosys.SpringBoard.services.ComplaintVersions;
+import com.infosys.SpringBoard.services.LoginRateLimiter;
+import com.infosys.SpringBoard.services.MalformedImageException;
+import com.infosys.SpringBoard.services.OptimisticRetry;
 import com.infosys.SpringBoard.services.UserService;
 
 import java.io.IOException;
@@ -15,15 +23,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/users")
@@ -36,6 +54,21 @@ public class UserController {
     @Autowired
     private ComplainService complainService;
 
+    @Autowired
+    private ComplaintGeoIndex complaintGeoIndex;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    @Autowired
+    private ComplaintUpdateStream complaintUpdateStream;
+
+    @Autowired
+    private ComplaintVersions complaintVersions;
+
     @PostMapping("/signup")
     public ResponseEntity<String> signUp(@RequestBody User user) {
         try {
@@ -48,18 +81,35 @@ public class UserController {
         }
     }
 
+    /**
+     * Rate limited per client IP and per email (429 with Retry-After). The
+     * password check runs on the bounded password executor, releasing the
+     * request thread meanwhile; if that pool is saturated the answer is 503.
+     */
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody User user) {
-        boolean success = userService.loginUser(user.getEmail(), user.getPassword());
-
-        if (success) {
-            // Success: Return 200 OK and User ID for tracking
-            Optional<User> loggedInUser = userService.findByEmail(user.getEmail());
-            // This response format helps the frontend easily get the ID.
-            return new ResponseEntity<>("Login Successful UserID:" + loggedInUser.get().getId(), HttpStatus.OK);
-        } else {
-            // Failure: Return 401 Unauthorized (Standard for login failure)
-            return new ResponseEntity<>("Invalid email or password", HttpStatus.UNAUTHORIZED);
+    public CompletableFuture<ResponseEntity<String>> login(@RequestBody User user, HttpServletRequest request) {
+        long retryAfterMillis = loginRateLimiter.tryAcquire(request.getRemoteAddr(), user.getEmail());
+        if (retryAfterMillis > 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000))
+                    .body("Too many login attempts. Please try again later."));
+        }
+
+        try {
+            return userService.authenticate(user.getEmail(), user.getPassword())
+                    .thenApply(loggedInUser -> loggedInUser
+                            // Success: 200 OK with the User ID; this format helps the frontend easily get the ID.
+                            // The access token for the other user endpoints is in the Authorization header.
+                            .map(u -> ResponseEntity.ok()
+                                    .header(HttpHeaders.AUTHORIZATION,
+                                            "Bearer " + accessTokenService.issue(u.getId(), AccessTokenService.Role.USER))
+                                    .body("Login Successful UserID:" + u.getId()))
+                            // Failure: 401 Unauthorized (Standard for login failure)
+                            .orElseGet(() -> new ResponseEntity<>("Invalid email or password", HttpStatus.UNAUTHORIZED)));
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Login is busy. Please try again."));
         }
     }
 
@@ -71,15 +121,32 @@ public class UserController {
             @RequestParam("description") String description,
             @RequestParam("location") String location,
             @RequestParam("city") String city,
-            @RequestParam(value = "image", required = false) MultipartFile imageFile) {
+            @RequestParam(value = "latitude", required = false) Double latitude,
+            @RequestParam(value = "longitude", required = false) Double longitude,
+            @RequestParam(value = "image", required = false) MultipartFile imageFile,
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
+
+        // Citizens can only raise complaints in their own name
+        if (caller == null || caller.subjectId() != userId) {
+            return new ResponseEntity<>("You can only raise complaints for your own account.", HttpStatus.FORBIDDEN);
+        }
+
+        try {
+            ComplaintGeoIndex.validateCoordinates(latitude, longitude);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
 
         try {
             // Delegation to service layer for file storage and entity creation
             Complains savedComplain = complainService.submitNewComplain(userId, title, category, description, city, location,
-                    imageFile);
+                    latitude, longitude, imageFile);
             // Success: 201 Created
             return new ResponseEntity<>("Complaint raised successfully. ID: " + savedComplain.getComplainId(),
                     HttpStatus.CREATED);
+        } catch (MalformedImageException e) {
+            // Damaged or truncated upload: 400 Bad Request
+            return new ResponseEntity<>("The image could not be read: " + e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (IllegalArgumentException e) {
             // User not found: 404 Not Found
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
@@ -89,19 +156,62 @@ public class UserController {
         }
     }
 
-    @GetMapping("/complaints/history/{userId}")
-    public ResponseEntity<List<Complains>> getComplaintHistory(@PathVariable Long userId) {
+    /**
+     * Open complaints of the same category close to the given point, nearest
+     * first. The complaint form calls this before submitting so citizens can
+     * spot an existing report of the same issue.
+     */
+    @GetMapping("/complaints/duplicates")
+    public ResponseEntity<?> suggestDuplicates(
+            @RequestParam("latitude") double latitude,
+            @RequestParam("longitude") double longitude,
+            @RequestParam("category") String category) {
+        try {
+            return ResponseEntity.ok(complaintGeoIndex.suggestDuplicates(latitude, longitude, category));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
 
-        List<Complains> complaints = complainService.getComplaintsByUserId(userId);
+    /**
+     * Live updates of this citizen's complaints as Server-Sent Events
+     * ({@code complaint}, {@code sla}, {@code resync}). Browsers' EventSource
+     * cannot set headers, so the token may be passed as {@code access_token}.
+     */
+    @GetMapping(path = "/{userId}/complaints/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamComplaintUpdates(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(complaintUpdateStream.subscribeUser(userId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+    }
+
+    @GetMapping("/complaints/history/{userId}")
+    public ResponseEntity<List<?>> getComplaintHistory(
+            @PathVariable Long userId,
+            @RequestParam(value = "view", defaultValue = "summary") String view,
+            WebRequest request) {
+
+        // Summary rows by default; ?view=full returns the complete entities
+        boolean full = "full".equalsIgnoreCase(view);
+        String etag = complaintVersions.userEtag(userId, full ? "full" : "summary");
+        if (request.checkNotModified(etag)) {
+            return null; // 304: nothing changed for this citizen since the client's copy
+        }
+        List<?> complaints = full
+                ? complainService.getComplaintsByUserId(userId)
+                : complainService.getComplaintSummariesByUserId(userId);
 
         // Return 200 OK with the list (which may be empty)
-        return new ResponseEntity<>(complaints, HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(ComplaintVersions.REVALIDATE).eTag(etag).body(complaints);
     }
 
     @PostMapping("/complaints/{complainId}/feedback")
     public ResponseEntity<String> submitFeedback(
             @PathVariable Long complainId,
-            @RequestBody Map<String, Object> feedbackRequest) { // Use Map to receive JSON
+            @RequestBody Map<String, Object> feedbackRequest, // Use Map to receive JSON
+            @AuthenticationPrincipal AccessTokenService.Claims caller) {
 
         // 1. Extract and validate required fields from the JSON Map
         Integer rating = (Integer) feedbackRequest.get("rating");
@@ -112,7 +222,14 @@ public class UserController {
         }
 
         // 2. Delegate to the service layer
-        String result = complainService.sendFeedback(complainId, rating, feedbackMessage);
+        String result;
+        try {
+            result = complainService.sendFeedback(complainId, rating, feedbackMessage, caller);
+        } catch (AccessDeniedException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.FORBIDDEN);
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(OptimisticRetry.CONFLICT_MESSAGE, HttpStatus.CONFLICT);
+        }
 
         if (result.startsWith("Complaint not found")) {
             return new ResponseEntity<>(result, HttpStatus.NOT_FOUND);
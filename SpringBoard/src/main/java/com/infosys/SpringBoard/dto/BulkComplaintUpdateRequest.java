@@ -0,0 +1,25 @@
+package com.infosys.SpringBoard.dto;
+
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Body of PUT /api/admin/complaints/bulk. Targets either explicit
+ * {@code ids} or every complaint matching {@code filter}; at least one of
+ * status, departmentId or timelineDays must be set. Assigning a department
+ * moves the complaint to IN_PROGRESS unless a status is given, as the
+ * single-complaint endpoint does.
+ */
+@Data
+@NoArgsConstructor
+public class BulkComplaintUpdateRequest {
+    private List<Long> ids;
+    private ComplaintFilterDTO filter;
+
+    private String status;
+    private String message;
+    private Long departmentId;
+    private Long timelineDays; // deadline = today + timelineDays
+}
@@ -0,0 +1,26 @@
+package com.infosys.SpringBoard.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkUpdateResultDTO {
+
+    public enum Outcome {
+        UPDATED, UNCHANGED, NOT_FOUND
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Item {
+        private Long complainId;
+        private Outcome outcome;
+    }
+
+    private int requested;
+    private int updated;
+    private List<Item> results;
+}
@@ -0,0 +1,35 @@
+package com.infosys.SpringBoard.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.infosys.SpringBoard.entity.Complains;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Flat export row, built straight from the query so no entities are managed.
+// Column names match the import format, so an export can be re-imported.
+@Data
+@AllArgsConstructor
+@JsonPropertyOrder({ "complainId", "userId", "title", "category", "description", "city", "location", "status",
+        "departmentId", "department", "rating", "deadlineDate", "createdAt", "resolvedAt", "message", "feedback" })
+public class ComplaintExportRow {
+    private Long complainId;
+    private Long userId;
+    private String title;
+    private String category;
+    private String description;
+    private String city;
+    private String location;
+    private Complains.Status status;
+    private Long departmentId;
+    private String department;
+    private Integer rating;
+    private LocalDate deadlineDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+    private String message;
+    private String feedback;
+}
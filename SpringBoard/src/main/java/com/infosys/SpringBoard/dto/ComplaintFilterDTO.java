@@ -0,0 +1,33 @@
+package com.infosys.SpringBoard.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.infosys.SpringBoard.entity.Complains;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Optional server-side filters for complaint listings; null fields are ignored.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintFilterDTO {
+    private Complains.Status status;
+    private String city;
+    private String category;
+    private Long departmentId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from; // inclusive, matched against createdAt
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to; // inclusive
+
+    public boolean isEmpty() {
+        return status == null && city == null && category == null && departmentId == null
+                && from == null && to == null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.infosys.SpringBoard.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ComplaintPageDTO<T> {
+    private List<T> items;
+    private Long nextCursor; // null when there are no more rows
+    private boolean hasMore;
+}
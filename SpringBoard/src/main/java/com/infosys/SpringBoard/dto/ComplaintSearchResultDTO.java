@@ -0,0 +1,30 @@
+package com.infosys.SpringBoard.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ComplaintSearchResultDTO {
+
+    // Fields are served from the index, so they lag the database by at most one refresh
+    @Data
+    @AllArgsConstructor
+    public static class Hit {
+        private Long complainId;
+        private float score;
+        private String title;
+        private String category;
+        private String city;
+        private String location;
+        private String status;
+        private Long departmentId;
+    }
+
+    private long total;
+    private int page;
+    private int size;
+    private List<Hit> hits;
+}
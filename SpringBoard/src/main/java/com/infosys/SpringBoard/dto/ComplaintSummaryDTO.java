@@ -0,0 +1,23 @@
+package com.infosys.SpringBoard.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.infosys.SpringBoard.entity.Complains;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Lightweight list row: no TEXT columns, no lazy associations.
+@Data
+@AllArgsConstructor
+public class ComplaintSummaryDTO {
+    private Long complainId;
+    private String title;
+    private String category;
+    private Complains.Status status;
+    private String city;
+    private String location;
+    private LocalDate deadlineDate;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.infosys.SpringBoard.dto;
+
+import java.time.LocalDate;
+
+import com.infosys.SpringBoard.entity.Complains;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Payload of a "complaint" live-update event: the fields dashboards show for a status change.
+@Data
+@AllArgsConstructor
+public class ComplaintUpdateDTO {
+    private Long complainId;
+    private Complains.Status status;
+    private String message;
+    private Long departmentId;
+    private String departmentName;
+    private LocalDate deadlineDate;
+}
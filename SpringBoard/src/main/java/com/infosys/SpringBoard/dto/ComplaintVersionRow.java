@@ -0,0 +1,12 @@
+package com.infosys.SpringBoard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Optimistic-lock version of one complaint, as read with the dashboard counts.
+@Data
+@AllArgsConstructor
+public class ComplaintVersionRow {
+    private Long complainId;
+    private Long version;
+}
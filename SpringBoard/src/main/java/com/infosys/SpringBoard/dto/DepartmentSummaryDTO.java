@@ -0,0 +1,12 @@
+package com.infosys.SpringBoard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Department row for dropdowns: no credentials, no worker/complaint collections.
+@Data
+@AllArgsConstructor
+public class DepartmentSummaryDTO {
+    private Long id;
+    private String name;
+}
@@ -0,0 +1,21 @@
+package com.infosys.SpringBoard.dto;
+
+import java.time.LocalDateTime;
+
+import com.infosys.SpringBoard.entity.Complains;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Open complaint with coordinates, as loaded to seed the geo index.
+@Data
+@AllArgsConstructor
+public class GeoPointRow {
+    private Long complainId;
+    private String title;
+    private String category;
+    private Complains.Status status;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.infosys.SpringBoard.dto;
+
+import java.util.List;
+
+import com.infosys.SpringBoard.entity.ComplaintImport;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportResultDTO {
+    private long importId;
+    private ComplaintImport.Status status;
+    private long recordsRead;
+    private long imported;
+    private long rejected;
+    private long checkpoint; // pass as resume=<importId> to continue after this record
+    private String lastError;
+    private List<String> errors; // first rejected records of this run, "record N: reason"
+
+    public static ImportResultDTO of(ComplaintImport job, List<String> errors) {
+        return new ImportResultDTO(job.getId(), job.getStatus(), job.getRecordsRead(), job.getImported(),
+                job.getRejected(), job.getCheckpoint(), job.getLastError(), errors);
+    }
+}
@@ -0,0 +1,22 @@
+package com.infosys.SpringBoard.dto;
+
+import java.time.LocalDateTime;
+
+import com.infosys.SpringBoard.entity.Complains;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// An open complaint near a point, nearest first; served from the in-memory geo index.
+@Data
+@AllArgsConstructor
+public class NearbyComplaintDTO {
+    private Long complainId;
+    private String title;
+    private String category;
+    private Complains.Status status;
+    private double latitude;
+    private double longitude;
+    private int distanceMeters;
+    private LocalDateTime createdAt;
+}
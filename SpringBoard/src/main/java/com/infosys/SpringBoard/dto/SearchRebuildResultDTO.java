@@ -0,0 +1,12 @@
+package com.infosys.SpringBoard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SearchRebuildResultDTO {
+    private long indexed;
+    private int threads;
+    private long millis;
+}
@@ -0,0 +1,17 @@
+package com.infosys.SpringBoard.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Open complaint with a department and deadline, as loaded to seed the SLA monitor.
+@Data
+@AllArgsConstructor
+public class SlaDeadlineRow {
+    private Long complainId;
+    private Long userId;
+    private Long departmentId;
+    private String departmentName;
+    private LocalDate deadlineDate;
+}
@@ -0,0 +1,14 @@
+package com.infosys.SpringBoard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Worker row as the department's worker list shows it: no department proxy.
+@Data
+@AllArgsConstructor
+public class WorkerSummaryDTO {
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+}
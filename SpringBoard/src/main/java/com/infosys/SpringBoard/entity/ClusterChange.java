@@ -0,0 +1,72 @@
+package com.infosys.SpringBoard.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * One change a node committed that the other nodes must apply to their
+ * in-process state (counters, indexes, caches). Written in the transaction
+ * of the change itself and read back by every other node; see
+ * {@code ClusterSync}. {@code payload} is JSON whose shape depends on
+ * {@code type}.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "cluster_changes", indexes = {
+    @Index(name = "idx_cluster_changes_created", columnList = "created_at, node_id")
+})
+public class ClusterChange {
+
+    public enum Type {
+        /** A ComplaintChangedEvent. */
+        COMPLAINT,
+        /** A complaint write without an event (e.g. feedback): only its ETags change. */
+        TOUCH,
+        /** A cache whose entries are no longer valid. */
+        CACHE,
+        /** Stored image objects that were deleted: cached lookups of them are stale. */
+        BLOB
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cluster_changes_id")
+    @TableGenerator(name = "cluster_changes_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "cluster_changes",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Type type;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public ClusterChange(String nodeId, Type type, String payload, LocalDateTime createdAt) {
+        this.nodeId = nodeId;
+        this.type = type;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
@@ -4,6 +4,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -15,10 +19,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,6 +37,18 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+// UPDATEs list only the changed columns, so concurrent edits of different fields don't overwrite each other
+@DynamicUpdate
+// Composite indexes end in complain_id so each admin console filter can seek
+// straight to the keyset cursor instead of sorting the filtered rows.
+@Table(indexes = {
+    @Index(name = "idx_complains_status_id", columnList = "status, complain_id"),
+    @Index(name = "idx_complains_city_id", columnList = "city, complain_id"),
+    @Index(name = "idx_complains_category_id", columnList = "category, complain_id"),
+    @Index(name = "idx_complains_department_id", columnList = "department_id, complain_id"),
+    @Index(name = "idx_complains_created_id", columnList = "created_at, complain_id"),
+    @Index(name = "idx_complains_user", columnList = "user_id")
+})
 public class Complains {
 
     public enum Status {
@@ -36,7 +56,10 @@ public class Complains {
     }
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "complains_id")
+    @TableGenerator(name = "complains_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "complains",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private long complainId;
 
     // User details fetched from the User entity upon submission
@@ -50,6 +73,13 @@ public class Complains {
     private String city;
     private String location;
 
+    // Optional WGS84 coordinates captured at submission (nearby/duplicate lookup)
+    @Column(nullable = true)
+    private Double latitude;
+
+    @Column(nullable = true)
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Status status = Status.PENDING;
@@ -78,8 +108,21 @@ public class Complains {
     @Column(nullable = true)
     private LocalDateTime resolvedAt;
 
+    // Set once on submission; used by the admin console date-range filter
+    @Column(nullable = true, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Optimistic lock: an UPDATE from a stale read matches no row and fails
+    // instead of silently overwriting (see OptimisticRetry). Rows that predate
+    // the column start at 0.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     // --- Many-to-Many Relationship ---
     @JsonIgnore
+    @BatchSize(size = 50) // one query per 50 complaints when a list touches workers
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "complaint_worker_assignment", // Join Table
@@ -0,0 +1,54 @@
+package com.infosys.SpringBoard.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Progress and checkpoint of one bulk complaint import. {@code checkpoint}
+ * is the last input record whose chunk has been committed; it is written in
+ * the same transaction as the chunk, so a resumed import skips exactly the
+ * records that are already stored.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "complaint_imports")
+public class ComplaintImport {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    private String fileName;
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    private Status status = Status.RUNNING;
+
+    private long recordsRead;
+    private long imported;
+    private long rejected;
+    private long checkpoint;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
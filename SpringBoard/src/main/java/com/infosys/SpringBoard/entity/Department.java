@@ -1,6 +1,9 @@
 package com.infosys.SpringBoard.entity;
 
 import java.util.List;
+
+import org.hibernate.annotations.BatchSize;
+
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import jakarta.persistence.*;
@@ -15,7 +18,10 @@ import lombok.*;
 public class Department {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "departments_id")
+    @TableGenerator(name = "departments_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "departments",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private long id;
 
     @Column(nullable = false, unique = true)
@@ -28,11 +34,13 @@ public class Department {
 
     // FIX: @JsonManagedReference to manage the Worker list serialization
     @JsonManagedReference("department-workers")
+    @BatchSize(size = 50) // initialise the collections of up to 50 loaded departments in one query
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Worker> workers;
 
     // FIX: @JsonManagedReference for Complaint list serialization
     @JsonManagedReference("department-complaints")
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Complains> complaints;
 
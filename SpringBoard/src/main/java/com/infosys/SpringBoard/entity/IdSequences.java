@@ -0,0 +1,21 @@
+package com.infosys.SpringBoard.entity;
+
+/**
+ * Shared settings for the table-backed id generators. MySQL has no
+ * sequences, so ids are handed out in blocks from one row per entity in
+ * {@value #TABLE}; with the pooled optimizer a node reserves
+ * {@value #ALLOCATION_SIZE} ids per round trip, which lets Hibernate batch
+ * INSERTs (IDENTITY columns force one round trip per row).
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // Matches hibernate.jdbc.batch_size
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
@@ -0,0 +1,76 @@
+package com.infosys.SpringBoard.entity;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One stored image file, addressed by the SHA-256 of its bytes.
+ * {@code refCount} counts complaint before/after image references; blobs
+ * left at zero past the grace period are garbage-collected.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "image_blobs", indexes = {
+    @Index(name = "idx_image_blobs_gc", columnList = "ref_count, updated_at")
+})
+public class ImageBlob implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    private long size;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    private LocalDateTime createdAt;
+
+    // Bumped on every store/retain/release; protects fresh uploads from GC
+    private LocalDateTime updatedAt;
+
+    // New rows are always INSERTed (never merged), so a concurrent insert of
+    // the same hash fails instead of silently resetting its refCount
+    @Transient
+    private boolean newBlob;
+
+    public ImageBlob(String hash, long size, LocalDateTime now) {
+        this.hash = hash;
+        this.size = size;
+        this.refCount = 0;
+        this.createdAt = now;
+        this.updatedAt = now;
+        this.newBlob = true;
+    }
+
+    @Override
+    public String getId() {
+        return hash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newBlob;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newBlob = false;
+    }
+}
@@ -0,0 +1,89 @@
+package com.infosys.SpringBoard.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One email or SMS waiting to be sent. Rows are written in the same
+ * transaction as the complaint change they announce, so a notification
+ * exists if and only if the change was committed; the dispatcher sends
+ * them afterwards. {@code nextAttemptAt} is both the retry time and the
+ * claim lease of a row being sent.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at")
+})
+public class NotificationOutbox {
+
+    public enum Channel {
+        EMAIL, SMS
+    }
+
+    public enum Status {
+        PENDING, SENT, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_outbox_id")
+    @TableGenerator(name = "notification_outbox_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "notification_outbox",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Channel channel;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    private String subject;
+
+    @Column(length = 2000)
+    private String body;
+
+    private Long complainId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Status status = Status.PENDING;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public NotificationOutbox(Channel channel, String recipient, String subject, String body, Long complainId,
+            LocalDateTime now) {
+        this.channel = channel;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.complainId = complainId;
+        this.createdAt = now;
+        this.nextAttemptAt = now;
+    }
+}
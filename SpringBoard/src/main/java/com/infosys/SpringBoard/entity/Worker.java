@@ -13,7 +13,10 @@ import lombok.*;
 @Table(name = "worker")
 public class Worker {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "worker_id")
+    @TableGenerator(name = "worker_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "worker",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     private String name;
@@ -0,0 +1,32 @@
+package com.infosys.SpringBoard.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Published whenever a complaint is created or one of its tracked fields
+ * changes. {@code before} is null for newly submitted complaints.
+ * Listeners that need committed data should use
+ * {@code @TransactionalEventListener}.
+ * <p>
+ * {@code remote} events are changes another node committed, replayed here
+ * outside any transaction so this node's derived state catches up; they
+ * must not cause writes (notifications, change-log rows) a second time.
+ */
+@Value
+@AllArgsConstructor
+public class ComplaintChangedEvent {
+    long complainId;
+    long userId;
+    ComplaintSnapshot before;
+    ComplaintSnapshot after;
+    boolean remote;
+
+    public ComplaintChangedEvent(long complainId, long userId, ComplaintSnapshot before, ComplaintSnapshot after) {
+        this(complainId, userId, before, after, false);
+    }
+
+    public boolean isCreated() {
+        return before == null;
+    }
+}
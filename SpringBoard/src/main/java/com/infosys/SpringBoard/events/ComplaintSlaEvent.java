@@ -0,0 +1,25 @@
+package com.infosys.SpringBoard.events;
+
+import java.time.LocalDate;
+
+import lombok.Value;
+
+/**
+ * Published by {@code SlaMonitor} when an open complaint's deadline is
+ * close ({@link Kind#NEAR_BREACH}) or has passed ({@link Kind#BREACH}).
+ * Each kind fires once per complaint and deadline.
+ */
+@Value
+public class ComplaintSlaEvent {
+
+    public enum Kind {
+        NEAR_BREACH, BREACH
+    }
+
+    long complainId;
+    long userId;
+    Long departmentId;
+    String departmentName;
+    LocalDate deadlineDate;
+    Kind kind;
+}
@@ -0,0 +1,54 @@
+package com.infosys.SpringBoard.events;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+
+import lombok.Value;
+
+/**
+ * Immutable copy of the complaint fields that derived views (see the
+ * ComplaintChangedEvent listeners) depend on. Taken inside the transaction
+ * so listeners never touch lazy associations after commit.
+ */
+@Value
+public class ComplaintSnapshot {
+    Long departmentId;
+    String departmentName;
+    String city;
+    String category;
+    Complains.Status status;
+    LocalDate deadlineDate;
+    String title;
+    String description;
+    String location;
+    Double latitude;
+    Double longitude;
+    LocalDateTime createdAt;
+    String message;
+    String userEmail;
+    // Optimistic-lock version as loaded; in a "before" snapshot, the version the change was made on
+    Long version;
+
+    public static ComplaintSnapshot of(Complains complaint) {
+        Department department = complaint.getDepartment();
+        return new ComplaintSnapshot(
+                department == null ? null : department.getId(),
+                department == null ? null : department.getName(),
+                complaint.getCity(),
+                complaint.getCategory(),
+                complaint.getStatus(),
+                complaint.getDeadlineDate(),
+                complaint.getTitle(),
+                complaint.getDescription(),
+                complaint.getLocation(),
+                complaint.getLatitude(),
+                complaint.getLongitude(),
+                complaint.getCreatedAt(),
+                complaint.getMessage(),
+                complaint.getUserEmail(),
+                complaint.getVersion());
+    }
+}
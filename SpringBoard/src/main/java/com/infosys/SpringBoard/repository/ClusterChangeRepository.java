@@ -0,0 +1,24 @@
+package com.infosys.SpringBoard.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.infosys.SpringBoard.entity.ClusterChange;
+
+public interface ClusterChangeRepository extends JpaRepository<ClusterChange, Long> {
+
+    /** Ids only, answered from the (created_at, node_id) index; payloads are fetched for unseen ids. */
+    @Query("SELECT c.id FROM ClusterChange c WHERE c.createdAt >= :since AND c.nodeId <> :nodeId")
+    List<Long> findIdsFromOtherNodesSince(@Param("since") LocalDateTime since, @Param("nodeId") String nodeId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ClusterChange c WHERE c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,18 +1,30 @@
 package com.infosys.SpringBoard.repository;
 
+import com.infosys.SpringBoard.dto.ComplaintExportRow;
+import com.infosys.SpringBoard.dto.ComplaintSummaryDTO;
+import com.infosys.SpringBoard.dto.ComplaintVersionRow;
 import com.infosys.SpringBoard.dto.DepartmentComplaintCountDTO;
+import com.infosys.SpringBoard.dto.GeoPointRow;
+import com.infosys.SpringBoard.dto.SlaDeadlineRow;
 import com.infosys.SpringBoard.entity.Complains;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ComplainRepository extends JpaRepository<Complains, Long> {
 
@@ -21,9 +33,6 @@ public interface ComplainRepository extends JpaRepository<Complains, Long> {
 
     List<Complains> findByDepartmentId(Long departmentId);
 
-    @Query("SELECT c.deadlineDate FROM Complains c WHERE c.complainId = :complainId")
-    Optional<LocalDate> findDeadlineDateByComplainId(@Param("complainId") Long complainId);
-
     @Query("SELECT c FROM Complains c LEFT JOIN FETCH c.assignedWorkers workers WHERE c.complainId = :complainId")
     Optional<Complains> findByIdWithAssignedWorkers(@Param("complainId") Long complainId);
 
@@ -37,4 +46,121 @@ public interface ComplainRepository extends JpaRepository<Complains, Long> {
 
     @Query("SELECT c.city AS city, COUNT(c) AS count FROM Complains c GROUP BY c.city")
     List<Map<String, Object>> getComplaintCountByCity();
-}
\ No newline at end of file
+
+    @Query("SELECT c.category AS category, COUNT(c) AS count FROM Complains c GROUP BY c.category")
+    List<Map<String, Object>> getComplaintCountByCategory();
+
+    @Query("SELECT c.status AS status, COUNT(c) AS count FROM Complains c GROUP BY c.status")
+    List<Map<String, Object>> getComplaintCountByStatus();
+
+    // Read with the counts above, to tell which change events they already include
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.infosys.SpringBoard.dto.ComplaintVersionRow(c.complainId, c.version) " +
+            "FROM Complains c ORDER BY c.complainId ASC")
+    Stream<ComplaintVersionRow> streamVersions();
+
+    // Keyset page for the admin console: every filter is optional (null = no
+    // filter) and rows are always walked in complainId order after the cursor.
+    @Query("SELECT c FROM Complains c " +
+            "WHERE c.complainId > :afterId " +
+            "AND (:status IS NULL OR c.status = :status) " +
+            "AND (:city IS NULL OR c.city = :city) " +
+            "AND (:category IS NULL OR c.category = :category) " +
+            "AND (:departmentId IS NULL OR c.department.id = :departmentId) " +
+            "AND (:from IS NULL OR c.createdAt >= :from) " +
+            "AND (:to IS NULL OR c.createdAt < :to) " +
+            "ORDER BY c.complainId ASC")
+    List<Complains> findPageAfter(@Param("afterId") long afterId,
+            @Param("status") Complains.Status status,
+            @Param("city") String city,
+            @Param("category") String category,
+            @Param("departmentId") Long departmentId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit);
+
+    // --- Summary projections for list views (skip TEXT columns and associations) ---
+    String SUMMARY_SELECT = "SELECT new com.infosys.SpringBoard.dto.ComplaintSummaryDTO(" +
+            "c.complainId, c.title, c.category, c.status, c.city, c.location, c.deadlineDate, c.createdAt) " +
+            "FROM Complains c ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY c.complainId ASC")
+    List<ComplaintSummaryDTO> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE c.userId = :userId ORDER BY c.complainId ASC")
+    List<ComplaintSummaryDTO> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query(SUMMARY_SELECT + "WHERE c.department.id = :departmentId ORDER BY c.complainId ASC")
+    List<ComplaintSummaryDTO> findSummariesByDepartmentId(@Param("departmentId") Long departmentId);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE c.complainId > :afterId " +
+            "AND (:status IS NULL OR c.status = :status) " +
+            "AND (:city IS NULL OR c.city = :city) " +
+            "AND (:category IS NULL OR c.category = :category) " +
+            "AND (:departmentId IS NULL OR c.department.id = :departmentId) " +
+            "AND (:from IS NULL OR c.createdAt >= :from) " +
+            "AND (:to IS NULL OR c.createdAt < :to) " +
+            "ORDER BY c.complainId ASC")
+    List<ComplaintSummaryDTO> findSummaryPageAfter(@Param("afterId") long afterId,
+            @Param("status") Complains.Status status,
+            @Param("city") String city,
+            @Param("category") String category,
+            @Param("departmentId") Long departmentId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit);
+
+    // --- Export / search indexing ---
+
+    String EXPORT_SELECT = "SELECT new com.infosys.SpringBoard.dto.ComplaintExportRow(" +
+            "c.complainId, c.userId, c.title, c.category, c.description, c.city, c.location, c.status, " +
+            "d.id, d.name, c.rating, c.deadlineDate, c.createdAt, c.resolvedAt, c.message, c.feedback) " +
+            "FROM Complains c LEFT JOIN c.department d ";
+
+    // Reporting export, run by ComplaintExportService as a forward-only
+    // stream with a fetch size chosen for the database (MySQL streams rows
+    // only with Integer.MIN_VALUE, which H2 rejects), so it has no method here.
+    String EXPORT_QUERY = EXPORT_SELECT +
+            "WHERE (:status IS NULL OR c.status = :status) " +
+            "AND (:city IS NULL OR c.city = :city) " +
+            "AND (:category IS NULL OR c.category = :category) " +
+            "AND (:departmentId IS NULL OR d.id = :departmentId) " +
+            "AND (:from IS NULL OR c.createdAt >= :from) " +
+            "AND (:to IS NULL OR c.createdAt < :to) " +
+            "ORDER BY c.complainId ASC";
+
+    // Keyset page within (afterId, upToId]; the search index rebuild walks
+    // one id range per thread with this.
+    @Query(EXPORT_SELECT +
+            "WHERE c.complainId > :afterId AND c.complainId <= :upToId " +
+            "ORDER BY c.complainId ASC")
+    List<ComplaintExportRow> findExportRowsBetween(@Param("afterId") long afterId,
+            @Param("upToId") long upToId,
+            Limit limit);
+
+    @Query("SELECT MIN(c.complainId) FROM Complains c")
+    Long findMinId();
+
+    @Query("SELECT MAX(c.complainId) FROM Complains c")
+    Long findMaxId();
+
+    // --- Geo index seed ---
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.infosys.SpringBoard.dto.GeoPointRow(" +
+            "c.complainId, c.title, c.category, c.status, c.latitude, c.longitude, c.createdAt) " +
+            "FROM Complains c " +
+            "WHERE c.status <> com.infosys.SpringBoard.entity.Complains.Status.RESOLVED " +
+            "AND c.latitude IS NOT NULL AND c.longitude IS NOT NULL")
+    Stream<GeoPointRow> streamOpenWithCoordinates();
+
+    // Seeds the SLA monitor: every open complaint that has a department and a deadline
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.infosys.SpringBoard.dto.SlaDeadlineRow(" +
+            "c.complainId, c.userId, d.id, d.name, c.deadlineDate) " +
+            "FROM Complains c JOIN c.department d " +
+            "WHERE c.status <> com.infosys.SpringBoard.entity.Complains.Status.RESOLVED " +
+            "AND c.deadlineDate IS NOT NULL")
+    Stream<SlaDeadlineRow> streamOpenWithDeadline();
+}
@@ -0,0 +1,36 @@
+package com.infosys.SpringBoard.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.infosys.SpringBoard.entity.ComplaintImport;
+
+public interface ComplaintImportRepository extends JpaRepository<ComplaintImport, Long> {
+
+    /**
+     * Moves the checkpoint forward only if it is still at {@code expected}.
+     * Runs in the chunk's transaction; 0 rows means another run of the same
+     * import got there first and the chunk must be rolled back. The chunk's
+     * pending INSERTs are flushed first: Hibernate won't auto-flush them for
+     * an update on another table, and the clear would otherwise drop them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ComplaintImport i SET i.checkpoint = :checkpoint, " +
+            "i.recordsRead = i.recordsRead + :read, i.imported = i.imported + :imported, " +
+            "i.rejected = i.rejected + :rejected, i.updatedAt = :now " +
+            "WHERE i.id = :id AND i.checkpoint = :expected")
+    int advanceCheckpoint(@Param("id") long id,
+            @Param("expected") long expected,
+            @Param("checkpoint") long checkpoint,
+            @Param("read") long read,
+            @Param("imported") long imported,
+            @Param("rejected") long rejected,
+            @Param("now") LocalDateTime now);
+}
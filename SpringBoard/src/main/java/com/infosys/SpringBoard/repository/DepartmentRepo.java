@@ -1,7 +1,15 @@
 package com.infosys.SpringBoard.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import com.infosys.SpringBoard.dto.DepartmentSummaryDTO;
 import com.infosys.SpringBoard.entity.Department;
 
 @Repository
@@ -14,4 +22,15 @@ public interface DepartmentRepo extends JpaRepository<Department, Long>{
     
     // Add the missing findByName for debugging/simpler lookup if needed
     Department findByName(String name);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.infosys.SpringBoard.dto.DepartmentSummaryDTO(d.id, d.name) FROM Department d ORDER BY d.name")
+    List<DepartmentSummaryDTO> findAllSummaries();
+
+    @Query("SELECT new com.infosys.SpringBoard.dto.DepartmentSummaryDTO(d.id, d.name) FROM Department d WHERE d.id = :id")
+    Optional<DepartmentSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    // Workers come in the same query; complaints follow in one batched query.
+    // Both are Lists (bags), so they can't be join-fetched together.
+    @EntityGraph(attributePaths = "workers")
+    Optional<Department> findWithWorkersById(Long id);
+}
@@ -0,0 +1,41 @@
+package com.infosys.SpringBoard.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.infosys.SpringBoard.entity.ImageBlob;
+
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    // All counter updates are single UPDATE statements so concurrent requests can't lose increments
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.updatedAt = :now WHERE b.hash = :hash")
+    int touch(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    // Must run inside the complaint transaction that adds/removes the reference
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + :delta, b.updatedAt = :now WHERE b.hash = :hash")
+    int adjustRefCount(@Param("hash") String hash, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    @Query("SELECT b.hash FROM ImageBlob b WHERE b.refCount <= 0 AND b.updatedAt < :cutoff")
+    List<String> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // Re-checks the condition so a blob retained since the scan is never deleted
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.hash = :hash AND b.refCount <= 0 AND b.updatedAt < :cutoff")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+}
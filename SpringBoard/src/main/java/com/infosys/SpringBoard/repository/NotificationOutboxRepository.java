@@ -0,0 +1,53 @@
+package com.infosys.SpringBoard.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.infosys.SpringBoard.entity.NotificationOutbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * The oldest due notifications, locked for the caller's transaction.
+     * Rows another node is claiming at the same moment are skipped rather
+     * than waited for (SKIP LOCKED), so dispatchers on several nodes split
+     * the backlog instead of queueing behind each other.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // -2 = LockOptions.SKIP_LOCKED
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT n FROM NotificationOutbox n " +
+            "WHERE n.status = com.infosys.SpringBoard.entity.NotificationOutbox.Status.PENDING " +
+            "AND n.nextAttemptAt <= :now ORDER BY n.nextAttemptAt")
+    List<NotificationOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox n " +
+            "WHERE n.status = com.infosys.SpringBoard.entity.NotificationOutbox.Status.SENT " +
+            "AND n.sentAt < :before")
+    int deleteSentBefore(@Param("before") LocalDateTime before);
+
+    // A FAILED row keeps the lease end of its last attempt as nextAttemptAt
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox n " +
+            "WHERE n.status = com.infosys.SpringBoard.entity.NotificationOutbox.Status.FAILED " +
+            "AND n.nextAttemptAt < :before")
+    int deleteFailedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,9 +1,16 @@
 package com.infosys.SpringBoard.repository;
 
+import com.infosys.SpringBoard.dto.WorkerSummaryDTO;
 import com.infosys.SpringBoard.entity.Worker;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface WorkerRepository extends JpaRepository<Worker, Long> {
     List<Worker> findByDepartmentId(Long departmentId);
+
+    @Query("SELECT new com.infosys.SpringBoard.dto.WorkerSummaryDTO(w.id, w.name, w.email, w.phone) "
+            + "FROM Worker w WHERE w.department.id = :departmentId")
+    List<WorkerSummaryDTO> findSummariesByDepartmentId(@Param("departmentId") Long departmentId);
 }
@@ -0,0 +1,151 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Issues and verifies signed access tokens (JWT, HS256) so that requests can
+ * be authorized from the token alone, without a database lookup.
+ * <p>
+ * The payload carries {@code sub} (the user, admin or department id),
+ * {@code role}, {@code iat} and {@code exp}. Every node must be configured
+ * with the same {@code auth.jwt.secret}; a token issued by one node is then
+ * accepted by all of them.
+ */
+@Service
+public class AccessTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getUrlDecoder();
+
+    // Only tokens we issue are accepted, so the header is a constant: comparing
+    // it byte for byte rules out "alg":"none" and algorithm confusion.
+    private static final String HEADER = B64.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+
+    public enum Role {
+        USER, ADMIN, DEPARTMENT;
+
+        public String authority() {
+            return "ROLE_" + name();
+        }
+    }
+
+    /** The verified contents of a token. */
+    public record Claims(long subjectId, Role role, Instant expiresAt) {
+    }
+
+    @Value("${auth.jwt.secret:}")
+    private String secret;
+
+    @Value("${auth.jwt.ttl-minutes:480}")
+    private long ttlMinutes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Mac prototype;
+    private Duration ttl;
+
+    @PostConstruct
+    void init() throws GeneralSecurityException {
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            key = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(key);
+            log.warn("auth.jwt.secret is not set: using a random key. Tokens will not survive a restart "
+                    + "and will not be accepted by other instances; set JWT_SECRET in production.");
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+            if (key.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("auth.jwt.secret must be at least " + MIN_SECRET_BYTES + " bytes.");
+            }
+        }
+        prototype = Mac.getInstance(ALGORITHM);
+        prototype.init(new SecretKeySpec(key, ALGORITHM));
+        ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /** Signs a token for the given subject, valid for {@code auth.jwt.ttl-minutes}. */
+    public String issue(long subjectId, Role role) {
+        Instant now = Instant.now();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("sub", String.valueOf(subjectId));
+        payload.put("role", role.name());
+        payload.put("iat", now.getEpochSecond());
+        payload.put("exp", now.plus(ttl).getEpochSecond());
+        try {
+            String signingInput = HEADER + "." + B64.encodeToString(objectMapper.writeValueAsBytes(payload));
+            return signingInput + "." + B64.encodeToString(sign(signingInput));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the claims of a well-formed, correctly signed and unexpired
+     *         token; empty for anything else
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot || !token.startsWith(HEADER + ".")) {
+            return Optional.empty();
+        }
+        try {
+            byte[] signature = B64_DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(signature, sign(token.substring(0, lastDot)))) {
+                return Optional.empty();
+            }
+            JsonNode payload = objectMapper.readTree(B64_DECODER.decode(token.substring(firstDot + 1, lastDot)));
+            Instant expiresAt = Instant.ofEpochSecond(payload.path("exp").asLong());
+            if (!Instant.now().isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            return Optional.of(new Claims(Long.parseLong(payload.path("sub").asText()),
+                    Role.valueOf(payload.path("role").asText()), expiresAt));
+        } catch (IllegalArgumentException | IOException e) {
+            // Malformed Base64, JSON, subject or role
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            // Mac is not thread-safe; cloning an initialised instance is cheaper than re-keying
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
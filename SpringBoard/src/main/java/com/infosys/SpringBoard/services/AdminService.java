@@ -1,15 +1,33 @@
 package com.infosys.SpringBoard.services;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.infosys.SpringBoard.dto.BulkComplaintUpdateRequest;
+import com.infosys.SpringBoard.dto.BulkUpdateResultDTO;
+import com.infosys.SpringBoard.dto.ComplaintFilterDTO;
+import com.infosys.SpringBoard.dto.ComplaintPageDTO;
+import com.infosys.SpringBoard.dto.ComplaintSummaryDTO;
 import com.infosys.SpringBoard.entity.Admin;
 import com.infosys.SpringBoard.entity.Complains;
 import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
 import com.infosys.SpringBoard.repository.AdminRepository;
 import com.infosys.SpringBoard.repository.ComplainRepository;
 import com.infosys.SpringBoard.repository.DepartmentRepo;
@@ -17,6 +35,8 @@ import com.infosys.SpringBoard.repository.DepartmentRepo;
 @Service
 public class AdminService {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminService.class);
+
     @Autowired
     private AdminRepository adminRepository;
 
@@ -26,68 +46,261 @@ public class AdminService {
     @Autowired
     private DepartmentRepo departmentRepository;
 
-    public boolean loginUser(String email, String password) {
-        Optional<Admin> adminOptional = adminRepository.findByEmail(email);
+    @Autowired
+    private ComplainService complainService;
 
-        if (adminOptional.isPresent()) {
-            Admin admin = adminOptional.get();
-            // Direct comparison for plain text passwords, trimming spaces for safety.
-            return admin.getPassword().trim().equals(password);
-        }
-        return false;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
+
+    public Optional<Admin> loginUser(String email, String password) {
+        // Direct comparison for plain text passwords, trimming spaces for safety.
+        return adminRepository.findByEmail(email)
+                .filter(admin -> admin.getPassword().trim().equals(password));
     }
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BULK_SIZE = 1000;
+
     public List<Complains> getAllComplaints() {
         return complainRepository.findAll();
     }
 
-    public Optional<Complains> updateComplainStatus(Long complainId, String newStatus, String message) {
+    public List<ComplaintSummaryDTO> getAllComplaintSummaries() {
+        return complainRepository.findAllSummaries();
+    }
 
-        Optional<Complains> complainOptional = complainRepository.findById(complainId);
+    /**
+     * Keyset page of complaints with ids greater than {@code cursor}.
+     * One extra row is fetched to know whether another page exists, so the
+     * cost stays constant however deep the admin scrolls.
+     */
+    public ComplaintPageDTO<Complains> getComplaintsPage(ComplaintFilterDTO filter, Long cursor, Integer size) {
+        int pageSize = pageSize(size);
+        List<Complains> rows = complainRepository.findPageAfter(
+                cursor == null ? 0L : cursor,
+                filter.getStatus(),
+                blankToNull(filter.getCity()),
+                blankToNull(filter.getCategory()),
+                filter.getDepartmentId(),
+                startOf(filter.getFrom()),
+                endOf(filter.getTo()),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, Complains::getComplainId);
+    }
 
-        if (complainOptional.isPresent()) {
-            Complains complain = complainOptional.get();
+    /** Same as {@link #getComplaintsPage} but returns summary rows only. */
+    public ComplaintPageDTO<ComplaintSummaryDTO> getComplaintSummaryPage(ComplaintFilterDTO filter, Long cursor,
+            Integer size) {
+        int pageSize = pageSize(size);
+        List<ComplaintSummaryDTO> rows = complainRepository.findSummaryPageAfter(
+                cursor == null ? 0L : cursor,
+                filter.getStatus(),
+                blankToNull(filter.getCity()),
+                blankToNull(filter.getCategory()),
+                filter.getDepartmentId(),
+                startOf(filter.getFrom()),
+                endOf(filter.getTo()),
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, ComplaintSummaryDTO::getComplainId);
+    }
 
-            try {
-                Complains.Status statusEnum = Complains.Status.valueOf(newStatus.toUpperCase());
+    private static <T> ComplaintPageDTO<T> toPage(List<T> rows, int pageSize, Function<T, Long> idOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+        Long nextCursor = hasMore ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new ComplaintPageDTO<>(items, nextCursor, hasMore);
+    }
 
-                complain.setStatus(statusEnum); // Now passing the correct Enum type
-                complain.setMessage(message);
+    private static int pageSize(Integer size) {
+        return (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
 
-                return Optional.of(complainRepository.save(complain));
+    static LocalDateTime startOf(LocalDate day) {
+        return day == null ? null : day.atStartOfDay();
+    }
 
-            } catch (IllegalArgumentException e) {
-                // Handle case where the provided newStatus String doesn't match any Enum
-                // constant
-                // You might want to log this or return an empty Optional/throw a specific
-                // exception
-                System.err.println("Invalid status value provided: " + newStatus);
-                return Optional.empty();
-            }
-        } else {
+    static LocalDateTime endOf(LocalDate day) {
+        return day == null ? null : day.plusDays(1).atStartOfDay();
+    }
+
+    static String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim();
+    }
+
+    public Optional<Complains> updateComplainStatus(Long complainId, String newStatus, String message) {
+        Complains.Status statusEnum;
+        try {
+            statusEnum = Complains.Status.valueOf(newStatus.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            // Handle case where the provided newStatus String doesn't match any Enum
+            // constant
+            log.warn("Invalid status value provided: {}", newStatus);
             return Optional.empty();
         }
+
+        return optimisticRetry.execute("admin-status", () -> complainRepository.findById(complainId).map(complain -> {
+            ComplaintSnapshot before = ComplaintSnapshot.of(complain);
+
+            complainService.changeStatus(complain, statusEnum);
+            complain.setMessage(message);
+
+            Complains saved = complainRepository.save(complain);
+            eventPublisher.publishEvent(new ComplaintChangedEvent(
+                    saved.getComplainId(), saved.getUserId(), before, ComplaintSnapshot.of(saved)));
+            return saved;
+        }));
     }
 
     public Optional<Complains> assignComplaintToDepartment(Long complainId, Long departmentId, Long timelineDays) {
+        return optimisticRetry.execute("assign-department", () -> {
+            Optional<Complains> complainOpt = complainRepository.findById(complainId);
+            Optional<Department> deptOpt = departmentRepository.findById(departmentId);
 
-        Optional<Complains> complainOpt = complainRepository.findById(complainId);
-        Optional<Department> deptOpt = departmentRepository.findById(departmentId);
+            if (complainOpt.isPresent() && deptOpt.isPresent()) {
+                Complains complain = complainOpt.get();
+                ComplaintSnapshot before = ComplaintSnapshot.of(complain);
+                complain.setDepartment(deptOpt.get());
 
-        if (complainOpt.isPresent() && deptOpt.isPresent()) {
-            Complains complain = complainOpt.get();
-            complain.setDepartment(deptOpt.get());
+                // CRITICAL: Calculate the future deadline date
+                LocalDate deadline = LocalDate.now().plusDays(timelineDays);
+                complain.setDeadlineDate(deadline); // <--- Set the new field
 
-            // CRITICAL: Calculate the future deadline date
-            LocalDate deadline = LocalDate.now().plusDays(timelineDays);
-            complain.setDeadlineDate(deadline); // <--- Set the new field
+                // Optionally, set status to IN_PROGRESS when assigned
+                complainService.changeStatus(complain, Complains.Status.IN_PROGRESS);
 
-            // Optionally, set status to IN_PROGRESS when assigned
-            complain.setStatus(Complains.Status.IN_PROGRESS);
+                Complains saved = complainRepository.save(complain);
+                eventPublisher.publishEvent(new ComplaintChangedEvent(
+                        saved.getComplainId(), saved.getUserId(), before, ComplaintSnapshot.of(saved)));
+                return Optional.of(saved);
+            }
 
-            return Optional.of(complainRepository.save(complain));
+            return Optional.empty();
+        });
+    }
+
+    // --- Bulk updates ---
+
+    /**
+     * Applies one status/department/deadline change to many complaints in a
+     * single transaction: one IN query loads them, dirty checking turns the
+     * changes into JDBC-batched UPDATEs at commit (hibernate.jdbc.batch_size;
+     * on MySQL a batch is one round trip only with rewriteBatchedStatements
+     * in the JDBC URL), and each complaint still publishes its own change
+     * event.
+     *
+     * If another writer changes one of the complaints meanwhile, the whole
+     * batch is re-run on fresh state.
+     *
+     * @throws IllegalArgumentException when the request is invalid as a whole
+     *         (no target, no change, unknown status or department, too many rows)
+     */
+    public BulkUpdateResultDTO bulkUpdate(BulkComplaintUpdateRequest request) {
+        return optimisticRetry.execute("bulk", () -> applyBulkUpdate(request));
+    }
+
+    private BulkUpdateResultDTO applyBulkUpdate(BulkComplaintUpdateRequest request) {
+        Complains.Status newStatus = parseStatus(request.getStatus());
+        Department department = request.getDepartmentId() == null ? null
+                : departmentRepository.findById(request.getDepartmentId())
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Department not found: " + request.getDepartmentId()));
+        if (newStatus == null && department == null && request.getTimelineDays() == null) {
+            throw new IllegalArgumentException("Nothing to change: set status, departmentId or timelineDays.");
+        }
+        if (request.getTimelineDays() != null && request.getTimelineDays() < 0) {
+            throw new IllegalArgumentException("timelineDays must not be negative.");
+        }
+        if (newStatus == null && department != null) {
+            newStatus = Complains.Status.IN_PROGRESS;
+        }
+        LocalDate deadline = request.getTimelineDays() == null ? null
+                : LocalDate.now().plusDays(request.getTimelineDays());
+
+        List<Long> ids = new ArrayList<>();
+        Map<Long, Complains> complaints = loadBulkTargets(request, ids);
+
+        List<BulkUpdateResultDTO.Item> results = new ArrayList<>(ids.size());
+        int updated = 0;
+        for (Long id : ids) {
+            Complains complaint = complaints.get(id);
+            if (complaint == null) {
+                results.add(new BulkUpdateResultDTO.Item(id, BulkUpdateResultDTO.Outcome.NOT_FOUND));
+                continue;
+            }
+            ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
+            boolean changed = false;
+            if (newStatus != null && complaint.getStatus() != newStatus) {
+                complainService.changeStatus(complaint, newStatus);
+                changed = true;
+            }
+            if (department != null && (complaint.getDepartment() == null
+                    || complaint.getDepartment().getId() != department.getId())) {
+                complaint.setDepartment(department);
+                changed = true;
+            }
+            if (deadline != null && !deadline.equals(complaint.getDeadlineDate())) {
+                complaint.setDeadlineDate(deadline);
+                changed = true;
+            }
+            if (request.getMessage() != null && !Objects.equals(request.getMessage(), complaint.getMessage())) {
+                complaint.setMessage(request.getMessage());
+                changed = true;
+            }
+
+            if (changed) {
+                updated++;
+                eventPublisher.publishEvent(new ComplaintChangedEvent(
+                        complaint.getComplainId(), complaint.getUserId(), before, ComplaintSnapshot.of(complaint)));
+            }
+            results.add(new BulkUpdateResultDTO.Item(id,
+                    changed ? BulkUpdateResultDTO.Outcome.UPDATED : BulkUpdateResultDTO.Outcome.UNCHANGED));
         }
+        return new BulkUpdateResultDTO(ids.size(), updated, results);
+    }
 
-        return Optional.empty();
+    /** Loads the targeted complaints with one query; {@code ids} receives the requested order. */
+    private Map<Long, Complains> loadBulkTargets(BulkComplaintUpdateRequest request, List<Long> ids) {
+        List<Complains> rows;
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            ids.addAll(new LinkedHashSet<>(request.getIds()));
+            ids.removeIf(Objects::isNull);
+            if (ids.size() > MAX_BULK_SIZE) {
+                throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " complaints per request.");
+            }
+            rows = complainRepository.findAllById(ids);
+        } else if (request.getFilter() != null && !request.getFilter().isEmpty()) {
+            ComplaintFilterDTO filter = request.getFilter();
+            rows = complainRepository.findPageAfter(0L,
+                    filter.getStatus(),
+                    blankToNull(filter.getCity()),
+                    blankToNull(filter.getCategory()),
+                    filter.getDepartmentId(),
+                    startOf(filter.getFrom()),
+                    endOf(filter.getTo()),
+                    Limit.of(MAX_BULK_SIZE + 1));
+            if (rows.size() > MAX_BULK_SIZE) {
+                throw new IllegalArgumentException(
+                        "Filter matches more than " + MAX_BULK_SIZE + " complaints; narrow it down.");
+            }
+            rows.forEach(c -> ids.add(c.getComplainId()));
+        } else {
+            throw new IllegalArgumentException("Either ids or a non-empty filter is required.");
+        }
+        return rows.stream().collect(Collectors.toMap(Complains::getComplainId, Function.identity()));
+    }
+
+    private static Complains.Status parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return Complains.Status.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status value: " + status);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Where image bytes live, addressed by slash-separated keys such as
+ * {@code blobs/ab/cd/<hash>}. Objects are written once and never modified
+ * in place, so every node may cache what it has read. Selected with
+ * {@code storage.type}: {@link LocalBlobStore} (a directory, shared between
+ * nodes through a network mount) or {@link S3BlobStore} (any S3-compatible
+ * object store).
+ */
+public interface BlobStore {
+
+    /**
+     * Size and modification time (epoch millis) of a stored object.
+     * {@code localFile} is set when the object is a file on this node's file
+     * system, so it can be served with sendfile; null otherwise.
+     */
+    record Stat(long size, long lastModified, Path localFile) {
+    }
+
+    /**
+     * Stores the file at {@code source} under {@code key}, replacing any
+     * object already there. Readers see the old object or the new one, never
+     * a partial write. {@code source} may be moved away; callers delete it
+     * if it is still there afterwards.
+     */
+    void put(String key, Path source) throws IOException;
+
+    /** Empty when there is no object at {@code key}; may be answered from a cache. */
+    Optional<Stat> stat(String key) throws IOException;
+
+    /** Like {@link #stat}, but always asks the store itself. */
+    default Optional<Stat> statUncached(String key) throws IOException {
+        return stat(key);
+    }
+
+    /** Drops whatever this node has cached about {@code key}, e.g. after another node deleted it. */
+    default void forget(String key) {
+    }
+
+    /** The whole object. */
+    InputStream open(String key) throws IOException;
+
+    /** Bytes {@code start} to {@code end}, both inclusive. */
+    InputStream open(String key, long start, long end) throws IOException;
+
+    /** Removes the object; a missing key is not an error. */
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,275 @@
+package com.infosys.SpringBoard.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infosys.SpringBoard.entity.ClusterChange;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ClusterChangeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps the in-process state of several nodes in step through the shared
+ * database. Every complaint change, ETag-only touch, cache eviction and
+ * blob deletion is also written to {@link ClusterChange} in the transaction
+ * that made it; each node polls for rows written by the others and replays
+ * them locally: complaint changes as {@code remote}
+ * {@link ComplaintChangedEvent}s (so counters, ETags, the search and geo
+ * indexes, SLA timers and live updates all follow), touches as
+ * {@link ComplaintVersions} bumps, evictions as cache clears and deletions
+ * as {@link BlobStore#forget}. Reads then stay node-local, so adding nodes adds read
+ * capacity; a node sees another's write within about one poll interval.
+ * <p>
+ * Rows are found by time rather than id, since ids from different nodes are
+ * not committed in order: each poll reads the ids of the last
+ * {@code cluster.sync.lookback-ms}, which must cover commit delays and
+ * clock skew between nodes, and fetches only those not applied yet. Anything
+ * missed is still repaired by the periodic reconciles of each view. ETags
+ * carry a per-node epoch, so a client moved to another node gets one full
+ * response. Off by default ({@code cluster.sync.enabled}); a single node
+ * needs none of it. Meters: {@code cluster.sync.applied} (tagged
+ * {@code type}) and the {@code cluster.sync.lag} timer, from commit on the
+ * origin node to apply here.
+ */
+@Service
+public class ClusterSync {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterSync.class);
+
+    private static final int FETCH_SIZE = 500;
+
+    @Autowired
+    private ClusterChangeRepository changeRepository;
+
+    @Autowired
+    private ComplaintVersions complaintVersions;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${cluster.sync.enabled:false}")
+    private boolean enabled;
+
+    // Blank = random per process
+    @Value("${cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${cluster.sync.poll-interval-ms:500}")
+    private long pollIntervalMillis;
+
+    @Value("${cluster.sync.lookback-ms:10000}")
+    private long lookbackMillis;
+
+    @Value("${cluster.sync.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private String nodeId;
+
+    // Applied ids still inside the lookback window -> their createdAt; poller thread only
+    private final Map<Long, LocalDateTime> applied = new HashMap<>();
+    private LocalDateTime startedAt;
+    private volatile boolean running;
+    private Thread worker;
+
+    @PostConstruct
+    void init() {
+        nodeId = configuredNodeId.isBlank() ? UUID.randomUUID().toString() : configuredNodeId;
+    }
+
+    // --- Lifecycle ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // Earlier changes are already in the state each view loads at startup
+        startedAt = LocalDateTime.now();
+        running = true;
+        worker = Thread.ofPlatform().name("cluster-sync").daemon().start(this::run);
+        log.info("Cluster sync started as node {}", nodeId);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // --- Recording (on the node making the change) ---
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        if (!event.isRemote()) {
+            record(ClusterChange.Type.COMPLAINT, new ComplaintChange(event.getComplainId(), event.getUserId(),
+                    event.getBefore(), event.getAfter()));
+        }
+    }
+
+    /** Other nodes bump the complaint's ETags; for writes that publish no {@link ComplaintChangedEvent}. */
+    public void complaintTouched(long userId, Long departmentId) {
+        record(ClusterChange.Type.TOUCH, new Touch(userId, departmentId));
+    }
+
+    /** Other nodes drop everything in the named cache. */
+    public void cacheEvicted(String cacheName) {
+        record(ClusterChange.Type.CACHE, new CacheEviction(cacheName));
+    }
+
+    /** Other nodes drop what they have cached about the deleted objects. */
+    public void blobsDeleted(List<String> keys) {
+        record(ClusterChange.Type.BLOB, new BlobDeletion(keys));
+    }
+
+    /** Part of the caller's transaction when there is one, else saved on its own. */
+    private void record(ClusterChange.Type type, Object payload) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            changeRepository.save(new ClusterChange(nodeId, type, objectMapper.writeValueAsString(payload),
+                    LocalDateTime.now()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + type + " change", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.sync.purge-interval-ms:600000}",
+            initialDelayString = "${cluster.sync.purge-interval-ms:600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = changeRepository.deleteCreatedBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (deleted > 0) {
+            log.debug("Purged {} cluster changes older than {} minutes", deleted, retentionMinutes);
+        }
+    }
+
+    // --- Replay (on every other node) ---
+
+    private void run() {
+        while (running) {
+            try {
+                poll();
+            } catch (RuntimeException e) {
+                log.error("Cluster sync poll failed", e);
+            }
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** @return how many changes were applied */
+    int poll() {
+        LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(lookbackMillis));
+        if (since.isBefore(startedAt)) {
+            since = startedAt;
+        }
+        LocalDateTime windowStart = since;
+        applied.values().removeIf(createdAt -> createdAt.isBefore(windowStart));
+
+        List<Long> unseen = changeRepository.findIdsFromOtherNodesSince(since, nodeId).stream()
+                .filter(id -> !applied.containsKey(id))
+                .toList();
+        for (int from = 0; from < unseen.size(); from += FETCH_SIZE) {
+            List<ClusterChange> changes = changeRepository.findAllById(
+                    unseen.subList(from, Math.min(from + FETCH_SIZE, unseen.size())));
+            changes.sort(Comparator.comparing(ClusterChange::getCreatedAt).thenComparing(ClusterChange::getId));
+            for (ClusterChange change : changes) {
+                applied.put(change.getId(), change.getCreatedAt());
+                apply(change);
+            }
+        }
+        return unseen.size();
+    }
+
+    private void apply(ClusterChange change) {
+        try {
+            switch (change.getType()) {
+                case COMPLAINT -> {
+                    ComplaintChange c = objectMapper.readValue(change.getPayload(), ComplaintChange.class);
+                    eventPublisher.publishEvent(new ComplaintChangedEvent(c.complainId(), c.userId(), c.before(),
+                            c.after(), true));
+                }
+                case TOUCH -> {
+                    Touch t = objectMapper.readValue(change.getPayload(), Touch.class);
+                    complaintVersions.complaintChanged(t.userId(), t.departmentId());
+                }
+                case CACHE -> {
+                    Cache cache = cacheManager.getCache(
+                            objectMapper.readValue(change.getPayload(), CacheEviction.class).cacheName());
+                    if (cache != null) {
+                        cache.clear();
+                    }
+                }
+                case BLOB -> objectMapper.readValue(change.getPayload(), BlobDeletion.class).keys()
+                        .forEach(blobStore::forget);
+            }
+            meterRegistry.counter("cluster.sync.applied", "type", change.getType().name()).increment();
+            meterRegistry.timer("cluster.sync.lag")
+                    .record(Duration.between(change.getCreatedAt(), LocalDateTime.now()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // One bad row must not stall the others; the views' reconciles repair what it missed
+            log.warn("Could not apply cluster change {} ({}) from node {}", change.getId(), change.getType(),
+                    change.getNodeId(), e);
+        }
+    }
+
+    // --- Payloads ---
+
+    record ComplaintChange(long complainId, long userId, ComplaintSnapshot before, ComplaintSnapshot after) {
+    }
+
+    record Touch(long userId, Long departmentId) {
+    }
+
+    record CacheEviction(String cacheName) {
+    }
+
+    record BlobDeletion(List<String> keys) {
+    }
+}
@@ -1,25 +1,28 @@
 package com.infosys.SpringBoard.services;
 
+import com.infosys.SpringBoard.config.CacheConfig;
+import com.infosys.SpringBoard.dto.ComplaintSummaryDTO;
+import com.infosys.SpringBoard.dto.DepartmentSummaryDTO;
 import com.infosys.SpringBoard.dto.DepartmentComplaintCountDTO;
 import com.infosys.SpringBoard.entity.Complains;
 import com.infosys.SpringBoard.entity.User;
 import com.infosys.SpringBoard.entity.Department;
 import com.infosys.SpringBoard.entity.Worker;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
 import com.infosys.SpringBoard.repository.ComplainRepository;
 import com.infosys.SpringBoard.repository.DepartmentRepo;
 import com.infosys.SpringBoard.repository.WorkerRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -27,7 +30,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class ComplainService {
@@ -44,34 +48,37 @@ public class ComplainService {
     @Autowired
     private WorkerRepository workerRepository;
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    @Autowired
+    private ComplaintCounterService complaintCounterService;
 
-    // --- Helper for File Storage (Consolidated Logic) ---
-    /** Helper to store the AFTER IMAGE file and return its unique name. */
-    private String storeFile(MultipartFile file) throws IOException {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("File cannot be null or empty.");
-        }
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-        String originalFileName = file.getOriginalFilename();
-        String fileExtension = "";
-        if (originalFileName != null && originalFileName.lastIndexOf(".") != -1) {
-            fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-        }
+    @Autowired
+    private ImageStorageService imageStorageService;
 
-        String uniqueFileName = "after_" + UUID.randomUUID().toString() + fileExtension;
-        Path copyLocation = Paths.get(uploadDir + File.separator + uniqueFileName).normalize();
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
-        Files.createDirectories(copyLocation.getParent());
-        Files.copy(file.getInputStream(), copyLocation);
+    @Autowired
+    private NotificationService notificationService;
 
-        return uniqueFileName;
-    }
+    @Autowired
+    private ComplaintVersions complaintVersions;
+
+    @Autowired
+    private OptimisticRetry optimisticRetry;
 
-    @Transactional
+    @Autowired
+    private ClusterSync clusterSync;
+
+    /**
+     * The photo is written (and renamed into place) before the transaction
+     * starts so no DB connection is held during file I/O; thumbnails are
+     * generated in the background once the complaint is committed.
+     */
     public Complains submitNewComplain(Long userId, String title, String category, String description, String city,
-            String location,
+            String location, Double latitude, Double longitude,
             MultipartFile imageFile) throws IOException {
 
         Optional<User> userOptional = userService.findById(userId);
@@ -80,36 +87,48 @@ public class ComplainService {
         }
         User user = userOptional.get();
 
-        Complains newComplain = new Complains();
-
-        // Logic to store BEFORE IMAGE (assuming unique naming)
-        if (imageFile != null && !imageFile.isEmpty()) {
-            String originalFileName = imageFile.getOriginalFilename();
-            String fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
-            Path copyLocation = Paths.get(uploadDir + File.separator + uniqueFileName).normalize();
-            Files.createDirectories(copyLocation.getParent());
-            Files.copy(imageFile.getInputStream(), copyLocation);
-            newComplain.setBeforeImagePath(uniqueFileName);
-        }
+        // Store BEFORE IMAGE outside the transaction (deduplicated by content)
+        String beforeImagePath = (imageFile != null && !imageFile.isEmpty())
+                ? imageStorageService.store(imageFile)
+                : null;
+
+        // If this transaction fails the blob stays unreferenced and is garbage-collected
+        Complains saved = transactionTemplate.execute(status -> {
+            Complains newComplain = new Complains();
+            newComplain.setBeforeImagePath(beforeImagePath);
+            newComplain.setUserId(userId);
+            newComplain.setFirstName(user.getFirstName());
+            newComplain.setUserEmail(user.getEmail());
+            newComplain.setTitle(title);
+            newComplain.setCategory(category);
+            newComplain.setDescription(description);
+            newComplain.setCity(city);
+            newComplain.setLocation(location);
+            newComplain.setLatitude(latitude);
+            newComplain.setLongitude(longitude);
+            newComplain.setDepartment(null);
+            newComplain.setStatus(Complains.Status.PENDING);
+            newComplain.setCreatedAt(LocalDateTime.now());
+
+            Complains created = complainRepository.save(newComplain);
+            if (beforeImagePath != null) {
+                imageStorageService.retain(beforeImagePath);
+            }
+            notificationService.complaintReceived(created);
+            eventPublisher.publishEvent(new ComplaintChangedEvent(
+                    created.getComplainId(), created.getUserId(), null, ComplaintSnapshot.of(created)));
+            return created;
+        });
 
-        newComplain.setUserId(userId);
-        newComplain.setFirstName(user.getFirstName());
-        newComplain.setUserEmail(user.getEmail());
-        newComplain.setTitle(title);
-        newComplain.setCategory(category);
-        newComplain.setDescription(description);
-        newComplain.setCity(city);
-        newComplain.setLocation(location);
-        newComplain.setDepartment(null);
-        newComplain.setStatus(Complains.Status.PENDING);
-
-        return complainRepository.save(newComplain);
+        if (beforeImagePath != null) {
+            imageStorageService.generateVariants(beforeImagePath);
+        }
+        return saved;
     }
 
-    @Transactional
     public Optional<Complains> assignDepartmentAndWorkers(Long complainId, Long departmentId, List<Long> workerIds) {
-        return complainRepository.findById(complainId).flatMap(complaint -> {
+        return optimisticRetry.execute("assign-workers", () -> complainRepository.findById(complainId).flatMap(complaint -> {
+            ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
             Optional<Department> departmentOpt = departmentRepository.findById(departmentId);
             if (departmentOpt.isEmpty()) {
                 throw new IllegalArgumentException("Department with ID " + departmentId + " not found.");
@@ -129,6 +148,13 @@ public class ComplainService {
                     throw new IllegalArgumentException("One or more workers do not belong to the assigned department.");
                 }
 
+                // Only workers new to the complaint are notified
+                Set<Long> alreadyAssigned = complaint.getAssignedWorkers() == null ? Set.of()
+                        : complaint.getAssignedWorkers().stream().map(Worker::getId).collect(Collectors.toSet());
+                notificationService.workersAssigned(complaint, workers.stream()
+                        .filter(w -> !alreadyAssigned.contains(w.getId()))
+                        .toList());
+
                 complaint.setAssignedWorkers(workers);
                 if (complaint.getStatus().equals(Complains.Status.PENDING)) {
                     complaint.setStatus(Complains.Status.IN_PROGRESS);
@@ -137,61 +163,116 @@ public class ComplainService {
                 complaint.setAssignedWorkers(null);
             }
 
-            return Optional.of(complainRepository.save(complaint));
-        });
+            return Optional.of(saveAndPublish(complaint, before));
+        }));
     }
 
-    @Transactional
-    public Optional<Complains> updateStatusAndMessage(Long complainId, String newStatusStr, String message) {
-        return complainRepository.findById(complainId).map(complaint -> {
+    public Optional<Complains> updateStatusAndMessage(Long complainId, String newStatusStr, String message,
+            AccessTokenService.Claims caller) {
+        return optimisticRetry.execute("department-status", () -> complainRepository.findById(complainId).map(complaint -> {
+            checkHandledBy(complaint, caller);
             // ... (Status update logic remains the same) ...
             try {
                 Complains.Status newStatus = Complains.Status.valueOf(newStatusStr.toUpperCase());
-                complaint.setStatus(newStatus);
+                ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
+                changeStatus(complaint, newStatus);
                 complaint.setMessage(message);
-                if (newStatus != Complains.Status.RESOLVED) {
-                    complaint.setAfterImagePath(null);
-                }
-                return complainRepository.save(complaint);
+                return saveAndPublish(complaint, before);
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException("Invalid status value: " + newStatusStr);
             }
-        });
+        }));
     }
 
-    @Transactional
+    /** Same flow as {@link #submitNewComplain}: file first, then a short transaction. */
     public Optional<Complains> completeTaskWithFile(
             Long complainId,
             MultipartFile imageFile,
             String message,
-            String workerIdsString) throws IOException {
+            String workerIdsString,
+            AccessTokenService.Claims caller) throws IOException {
 
-        // 1. Store the AFTER IMAGE file (Error fixed by using dedicated helper)
-        String afterImagePath = storeFile(imageFile);
+        // 1. Convert workerIds String to a list of ids (validated before any file is written)
+        List<Long> workerIds = parseWorkerIds(workerIdsString);
 
-        // 2. Convert workerIds String to List<Worker> objects (Error fixed by using
-        // robust parsing)
-        List<Long> workerIds = Arrays.stream(workerIdsString.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .map(Long::valueOf)
-                .toList();
+        // 2. Store the AFTER IMAGE file outside the transaction (deduplicated by content)
+        String afterImagePath = imageStorageService.store(imageFile);
 
-        List<Worker> workers = workerRepository.findAllById(workerIds);
+        // 3. Update Complaint entity (re-run on fresh state if someone else updated it meanwhile)
+        Optional<Complains> updated = optimisticRetry.execute("complete", () -> {
+            List<Worker> workers = workerRepository.findAllById(workerIds);
 
-        // 3. Update Complaint entity
-        return complainRepository.findById(complainId).map(complaint -> {
+            return complainRepository.findById(complainId).map(complaint -> {
+                checkHandledBy(complaint, caller);
+                ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
 
-            // CRITICAL FIX: Ensure ALL fields are being set/updated for persistence
-            complaint.setAfterImagePath(afterImagePath);
-            complaint.setMessage(message);
-            complaint.setStatus(Complains.Status.RESOLVED);
-            complaint.setResolvedAt(java.time.LocalDateTime.now());
-            // CRITICAL FIX: Set the Many-to-Many relationship using the correct field name
-            complaint.setAssignedWorkers(workers);
+                // Move the image reference from the previous after-image (if any) to the new one
+                imageStorageService.retain(afterImagePath);
+                if (complaint.getAfterImagePath() != null) {
+                    imageStorageService.release(complaint.getAfterImagePath());
+                }
 
-            return complainRepository.save(complaint);
+                // CRITICAL FIX: Ensure ALL fields are being set/updated for persistence
+                complaint.setAfterImagePath(afterImagePath);
+                complaint.setMessage(message);
+                complaint.setStatus(Complains.Status.RESOLVED);
+                complaint.setResolvedAt(java.time.LocalDateTime.now());
+                // CRITICAL FIX: Set the Many-to-Many relationship using the correct field name
+                complaint.setAssignedWorkers(workers);
+
+                return saveAndPublish(complaint, before);
+            });
         });
+
+        if (updated.isPresent()) {
+            imageStorageService.generateVariants(afterImagePath);
+        }
+        return updated;
+    }
+
+    /**
+     * A department only sees and works on complaints assigned to it; admins
+     * on any.
+     *
+     * @throws AccessDeniedException for anyone else
+     */
+    public static void checkHandledBy(Complains complaint, AccessTokenService.Claims caller) {
+        if (caller.role() == AccessTokenService.Role.ADMIN) {
+            return;
+        }
+        Department department = complaint.getDepartment();
+        if (caller.role() != AccessTokenService.Role.DEPARTMENT || department == null
+                || department.getId() != caller.subjectId()) {
+            throw new AccessDeniedException("Complaint " + complaint.getComplainId()
+                    + " is not assigned to your department.");
+        }
+    }
+
+    /**
+     * Moves a complaint to {@code newStatus}. Leaving RESOLVED releases the
+     * after-image and clears the resolution time; entering it without one
+     * (a plain status change) stamps the time. Must run in the saving
+     * transaction; every status change except completion goes through here.
+     */
+    public void changeStatus(Complains complaint, Complains.Status newStatus) {
+        if (newStatus != Complains.Status.RESOLVED) {
+            if (complaint.getAfterImagePath() != null) {
+                imageStorageService.release(complaint.getAfterImagePath());
+                complaint.setAfterImagePath(null);
+            }
+            complaint.setResolvedAt(null);
+        } else if (complaint.getStatus() != Complains.Status.RESOLVED || complaint.getResolvedAt() == null) {
+            complaint.setResolvedAt(LocalDateTime.now());
+        }
+        complaint.setStatus(newStatus);
+    }
+
+    /** Saves the complaint and announces the change to after-commit listeners. */
+    private Complains saveAndPublish(Complains complaint, ComplaintSnapshot before) {
+        Complains saved = complainRepository.save(complaint);
+        eventPublisher.publishEvent(new ComplaintChangedEvent(
+                saved.getComplainId(), saved.getUserId(), before, ComplaintSnapshot.of(saved)));
+        return saved;
     }
 
     public List<Complains> getComplaintsByUserId(Long userId) {
@@ -199,9 +280,13 @@ public class ComplainService {
         return complainRepository.findComplaintsWithWorkersByUserId(userId);
     }
 
-    public List<Department> getAllDepartments() {
-        // Uses the standard findAll() method
-        return departmentRepository.findAll();
+    public List<ComplaintSummaryDTO> getComplaintSummariesByUserId(Long userId) {
+        return complainRepository.findSummariesByUserId(userId);
+    }
+
+    @Cacheable(CacheConfig.DEPARTMENTS)
+    public List<DepartmentSummaryDTO> getAllDepartments() {
+        return departmentRepository.findAllSummaries();
     }
 
     public List<Complains> findComplaintsWithWorkersByUserId(Long userId) {
@@ -213,8 +298,13 @@ public class ComplainService {
         return complainRepository.findByDepartmentId(departmentId);
     }
 
-    public List<Worker> getWorkersByComplaintId(Long complainId) {
+    public List<ComplaintSummaryDTO> getComplaintSummariesByDepartmentId(Long departmentId) {
+        return complainRepository.findSummariesByDepartmentId(departmentId);
+    }
+
+    public List<Worker> getWorkersByComplaintId(Long complainId, AccessTokenService.Claims caller) {
         Optional<Complains> complaintOpt = complainRepository.findByIdWithAssignedWorkers(complainId);
+        complaintOpt.ifPresent(complaint -> checkHandledBy(complaint, caller));
 
         // 2. If the complaint is found, return its assigned workers list.
         return complaintOpt
@@ -222,29 +312,55 @@ public class ComplainService {
                 .orElseGet(java.util.Collections::emptyList); // Return empty list if not found
     }
 
-    public String sendFeedback(Long complainId, int rating, String feedbackMessage) {
-        Optional<Complains> complaintOpt = complainRepository.findById(complainId);
-        if (complaintOpt.isPresent()) {
-            Complains complaint = complaintOpt.get();
-            complaint.setRating(rating);
-            complaint.setFeedback(feedbackMessage);
-            complainRepository.save(complaint);
+    public String sendFeedback(Long complainId, int rating, String feedbackMessage,
+            AccessTokenService.Claims caller) {
+        Optional<Complains> updated = optimisticRetry.execute("feedback", () ->
+                complainRepository.findById(complainId).map(complaint -> {
+                    // Only the citizen who raised the complaint rates it
+                    if (complaint.getUserId() != caller.subjectId()) {
+                        throw new AccessDeniedException("You can only rate your own complaints.");
+                    }
+                    complaint.setRating(rating);
+                    complaint.setFeedback(feedbackMessage);
+                    clusterSync.complaintTouched(complaint.getUserId(),
+                            complaint.getDepartment() == null ? null : complaint.getDepartment().getId());
+                    return complainRepository.save(complaint);
+                }));
+        if (updated.isPresent()) {
+            Complains complaint = updated.get();
+            complaintVersions.complaintChanged(complaint.getUserId(),
+                    complaint.getDepartment() == null ? null : complaint.getDepartment().getId());
             return "Feedback submitted successfully.";
         } else {
             return "Complaint not found.";
         }
     }
 
-    public Optional<String> getDepartmentNameByComplainId(Long complainId) {
+    public Optional<String> getDepartmentNameByComplainId(Long complainId, AccessTokenService.Claims caller) {
         // findById will fetch the complaint, which should eagerly or lazily load the
         // Department.
         return complainRepository.findById(complainId)
-                .map(Complains::getDepartment) // Get the Department object
+                .map(complaint -> {
+                    checkHandledBy(complaint, caller);
+                    return complaint.getDepartment(); // Get the Department object
+                })
                 .map(Department::getName); // Get the name from the Department object
     }
 
-    public Optional<LocalDate> getDeadlineDateByComplainId(Long complainId) {
-        return complainRepository.findDeadlineDateByComplainId(complainId);
+    public Optional<LocalDate> getDeadlineDateByComplainId(Long complainId, AccessTokenService.Claims caller) {
+        return complainRepository.findById(complainId).map(complaint -> {
+            checkHandledBy(complaint, caller);
+            return complaint.getDeadlineDate();
+        });
+    }
+
+    /** Parses the comma-separated worker ids sent by the completion form, ignoring blanks. */
+    public static List<Long> parseWorkerIds(String workerIdsString) {
+        return Arrays.stream(workerIdsString.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Long::valueOf)
+                .toList();
     }
 
     public String calculateCompletionTime(Complains complaint) {
@@ -279,12 +395,21 @@ public class ComplainService {
         return Optional.ofNullable(rating);
     }
 
+    // Dashboard aggregates are answered from the in-memory counters
     public List<DepartmentComplaintCountDTO> getComplaintCountByDepartment() {
-        return complainRepository.getComplaintCountByDepartment();
+        return complaintCounterService.getCountByDepartment();
     }
 
     public List<Map<String, Object>> getComplaintCountByCity() {
-        return complainRepository.getComplaintCountByCity();
+        return complaintCounterService.getCountByCity();
+    }
+
+    public Map<String, Long> getComplaintCountByCategory() {
+        return complaintCounterService.getCountByCategory();
+    }
+
+    public Map<String, Long> getComplaintCountByStatus() {
+        return complaintCounterService.getCountByStatus();
     }
 
     public Optional<Map<String, Object>> getFeedbackDetailsByComplainId(Long complainId) {
@@ -0,0 +1,311 @@
+package com.infosys.SpringBoard.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.infosys.SpringBoard.dto.ComplaintVersionRow;
+import com.infosys.SpringBoard.dto.DepartmentComplaintCountDTO;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory complaint counters for the admin dashboard, keyed by
+ * department, city, category and status. Seeded from the database once the
+ * application is ready, updated from committed {@link ComplaintChangedEvent}s
+ * and periodically reconciled against the database to repair any drift.
+ * {@link #version()} changes whenever the counts may have, and backs the
+ * ETags of the dashboard endpoints.
+ * <p>
+ * A reload reads the counts and every complaint's version from one
+ * REPEATABLE READ snapshot. A change event's listener may run before,
+ * during or after that read whichever side of the snapshot its commit fell
+ * on (a replayed change from another node arrives up to
+ * {@code cluster.sync.lookback-ms} late), so events seen from the start of
+ * the read until {@code counters.settle-ms} after it are checked against
+ * the snapshot's version of their complaint, and only those it doesn't
+ * include are added to the new counts.
+ */
+@Service
+public class ComplaintCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintCounterService.class);
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${counters.settle-ms:${cluster.sync.lookback-ms:10000}}")
+    private long settleMillis;
+
+    private TransactionTemplate snapshotTransaction;
+
+    private volatile Counts counts = new Counts();
+    // Bumped after each change is applied, so a reader that saw the new version sees the new counts
+    private final AtomicLong version = new AtomicLong();
+
+    // Guarded by this: events seen while a reload reads (null otherwise), and the
+    // versions of the last reload, consulted until settleUntil
+    private List<ComplaintChangedEvent> seenDuringReload;
+    private Versions loadedVersions;
+    private long settleUntil;
+
+    @PostConstruct
+    void init() {
+        snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setReadOnly(true);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // --- Lifecycle ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reload(true);
+        log.info("Complaint counters seeded: {} departments, {} cities",
+                counts.byDepartment.size(), counts.byCity.size());
+    }
+
+    @Scheduled(fixedDelayString = "${counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        reload(false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onComplaintChanged(ComplaintChangedEvent event) {
+        if (seenDuringReload != null) {
+            seenDuringReload.add(event);
+        } else if (loadedVersions != null) {
+            if (System.currentTimeMillis() >= settleUntil) {
+                loadedVersions = null;
+            } else if (loadedVersions.includes(event)) {
+                return; // committed before the last reload read the counts
+            }
+        }
+        counts.apply(event);
+        version.incrementAndGet();
+    }
+
+    // --- Reads ---
+
+    public long version() {
+        return version.get();
+    }
+
+    public List<DepartmentComplaintCountDTO> getCountByDepartment() {
+        List<DepartmentComplaintCountDTO> result = new ArrayList<>();
+        counts.byDepartment.forEach((name, adder) -> {
+            long value = adder.sum();
+            if (value > 0) {
+                result.add(new DepartmentComplaintCountDTO(name, value));
+            }
+        });
+        result.sort(Comparator.comparing(DepartmentComplaintCountDTO::getDepartmentName));
+        return result;
+    }
+
+    public List<Map<String, Object>> getCountByCity() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        toSortedMap(counts.byCity).forEach((city, value) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("city", city.isEmpty() ? null : city);
+            row.put("count", value);
+            result.add(row);
+        });
+        return result;
+    }
+
+    public Map<String, Long> getCountByCategory() {
+        return toSortedMap(counts.byCategory);
+    }
+
+    public Map<String, Long> getCountByStatus() {
+        return toSortedMap(counts.byStatus);
+    }
+
+    // --- Internals ---
+
+    /**
+     * Replaces the counts with fresh ones from the database, plus the changes
+     * seen meanwhile that the read did not include. Changes seen during the
+     * read were also applied to the old counts, which are dropped.
+     */
+    private void reload(boolean seeding) {
+        synchronized (this) {
+            seenDuringReload = new ArrayList<>();
+        }
+        Snapshot snapshot;
+        try {
+            snapshot = snapshotTransaction.execute(status -> loadFromDatabase());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                seenDuringReload = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            Counts fresh = snapshot.counts;
+            seenDuringReload.stream()
+                    .filter(event -> !snapshot.versions.includes(event))
+                    .forEach(fresh::apply);
+            seenDuringReload = null;
+            loadedVersions = snapshot.versions;
+            settleUntil = System.currentTimeMillis() + settleMillis;
+
+            boolean drifted = !fresh.sameAs(counts);
+            counts = fresh;
+            if (seeding || drifted) {
+                version.incrementAndGet();
+            }
+            if (drifted && !seeding) {
+                log.warn("Complaint counters drifted from the database; repaired");
+            }
+        }
+    }
+
+    private Snapshot loadFromDatabase() {
+        Counts fresh = new Counts();
+        complainRepository.getComplaintCountByDepartment()
+                .forEach(row -> fresh.add(fresh.byDepartment, row.getDepartmentName(), row.getComplaintCount()));
+        complainRepository.getComplaintCountByCity()
+                .forEach(row -> fresh.add(fresh.byCity, (String) row.get("city"), (Long) row.get("count")));
+        complainRepository.getComplaintCountByCategory()
+                .forEach(row -> fresh.add(fresh.byCategory, (String) row.get("category"), (Long) row.get("count")));
+        complainRepository.getComplaintCountByStatus()
+                .forEach(row -> fresh.add(fresh.byStatus, String.valueOf(row.get("status")), (Long) row.get("count")));
+
+        Versions versions = new Versions((int) complainRepository.count());
+        try (Stream<ComplaintVersionRow> rows = complainRepository.streamVersions()) {
+            rows.forEach(row -> versions.add(row.getComplainId(), row.getVersion()));
+        }
+        return new Snapshot(fresh, versions);
+    }
+
+    private static Map<String, Long> toSortedMap(Map<String, LongAdder> source) {
+        Map<String, Long> result = new TreeMap<>();
+        source.forEach((key, adder) -> {
+            long value = adder.sum();
+            if (value > 0) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    /** One generation of counters; replaced wholesale on reconcile. */
+    private static final class Counts {
+        // Null keys (e.g. complaints without a city) are bucketed under ""
+        private static final String NONE = "";
+
+        final ConcurrentHashMap<String, LongAdder> byDepartment = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, LongAdder> byCity = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, LongAdder> byCategory = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+
+        void apply(ComplaintChangedEvent event) {
+            if (event.getBefore() != null) {
+                apply(event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                apply(event.getAfter(), 1);
+            }
+        }
+
+        void apply(ComplaintSnapshot snapshot, long delta) {
+            // Department counts only include assigned complaints, matching the JOIN in the original query
+            if (snapshot.getDepartmentName() != null) {
+                add(byDepartment, snapshot.getDepartmentName(), delta);
+            }
+            add(byCity, snapshot.getCity(), delta);
+            add(byCategory, snapshot.getCategory(), delta);
+            add(byStatus, snapshot.getStatus() == null ? null : snapshot.getStatus().name(), delta);
+        }
+
+        void add(ConcurrentHashMap<String, LongAdder> map, String key, long delta) {
+            map.computeIfAbsent(key == null ? NONE : key, k -> new LongAdder()).add(delta);
+        }
+
+        boolean sameAs(Counts other) {
+            return Objects.equals(toSortedMap(byDepartment), toSortedMap(other.byDepartment))
+                    && Objects.equals(toSortedMap(byCity), toSortedMap(other.byCity))
+                    && Objects.equals(toSortedMap(byCategory), toSortedMap(other.byCategory))
+                    && Objects.equals(toSortedMap(byStatus), toSortedMap(other.byStatus));
+        }
+    }
+
+    private record Snapshot(Counts counts, Versions versions) {
+    }
+
+    /** Complaint id -> version as of one read, in two sorted arrays (16 bytes per complaint). */
+    private static final class Versions {
+        private long[] ids;
+        private long[] versions;
+        private int size;
+
+        Versions(int expected) {
+            ids = new long[Math.max(expected, 16)];
+            versions = new long[ids.length];
+        }
+
+        // Rows arrive in id order
+        void add(long complainId, long version) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                versions = Arrays.copyOf(versions, size * 2);
+            }
+            ids[size] = complainId;
+            versions[size++] = version;
+        }
+
+        /**
+         * Whether the read already counted this change. An update made on
+         * version v is in it once the row's version is past v (optimistic
+         * locking lets no other change in between); a create once the row
+         * exists; a delete once it doesn't. Events without a version predate
+         * the field and are treated as not included.
+         */
+        boolean includes(ComplaintChangedEvent event) {
+            int at = Arrays.binarySearch(ids, 0, size, event.getComplainId());
+            if (event.getAfter() == null) {
+                return at < 0;
+            }
+            if (at < 0) {
+                return false;
+            }
+            ComplaintSnapshot before = event.getBefore();
+            if (before == null) {
+                return true;
+            }
+            return before.getVersion() != null && versions[at] > before.getVersion();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.infosys.SpringBoard.dto.ComplaintExportRow;
+import com.infosys.SpringBoard.dto.ComplaintFilterDTO;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Streams complaints for reporting as CSV or NDJSON. Rows come from a
+ * forward-only cursor as flat DTOs and are written to the output as they
+ * arrive, so memory use is constant however many rows match.
+ * <p>
+ * On MySQL the rows are streamed one by one (fetch size
+ * {@code Integer.MIN_VALUE}), which Connector/J does for this query only;
+ * {@code useCursorFetch} in the JDBC URL would do it for every statement
+ * and move them all to server-side prepared statements. The connection
+ * can't run anything else until the stream is closed.
+ */
+@Service
+public class ComplaintExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintExportService.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String[] CSV_HEADER = { "complainId", "userId", "title", "category", "description", "city",
+            "location", "status", "departmentId", "department", "rating", "deadlineDate", "createdAt", "resolvedAt",
+            "message", "feedback" };
+
+    public enum Format {
+        CSV("text/csv", "csv"), NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format fromParam(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unsupported export format; use format=csv or format=ndjson.");
+            }
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private int fetchSize;
+
+    @PostConstruct
+    void init() {
+        boolean mysql = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices()
+                .getDialect() instanceof MySQLDialect;
+        fetchSize = mysql ? Integer.MIN_VALUE : FETCH_SIZE;
+    }
+
+    /**
+     * Writes every complaint matching {@code filter} to {@code out} in
+     * complainId order. The caller owns {@code out} (and any compression
+     * around it); this method flushes but doesn't close it.
+     *
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(ComplaintFilterDTO filter, Format format, OutputStream out) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicLong rows = new AtomicLong();
+
+        try (Stream<ComplaintExportRow> stream = entityManager
+                .createQuery(ComplainRepository.EXPORT_QUERY, ComplaintExportRow.class)
+                .setParameter("status", filter.getStatus())
+                .setParameter("city", AdminService.blankToNull(filter.getCity()))
+                .setParameter("category", AdminService.blankToNull(filter.getCategory()))
+                .setParameter("departmentId", filter.getDepartmentId())
+                .setParameter("from", AdminService.startOf(filter.getFrom()))
+                .setParameter("to", AdminService.endOf(filter.getTo()))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()) {
+
+            if (format == Format.CSV) {
+                writeCsv(stream, out, rows);
+            } else {
+                writeNdjson(stream, out, rows);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            sample.stop(Timer.builder("complaints.export")
+                    .tag("format", format.extension())
+                    .register(meterRegistry));
+        }
+        log.info("Exported {} complaints as {}", rows.get(), format);
+        return rows.get();
+    }
+
+    private static void writeCsv(Stream<ComplaintExportRow> stream, OutputStream out, AtomicLong rows)
+            throws IOException {
+        CsvWriter csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        csv.writeRecord((Object[]) CSV_HEADER);
+        stream.forEach(r -> {
+            try {
+                csv.writeRecord(r.getComplainId(), r.getUserId(), r.getTitle(), r.getCategory(), r.getDescription(),
+                        r.getCity(), r.getLocation(), r.getStatus(), r.getDepartmentId(), r.getDepartment(),
+                        r.getRating(), r.getDeadlineDate(), r.getCreatedAt(), r.getResolvedAt(), r.getMessage(),
+                        r.getFeedback());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows.incrementAndGet();
+        });
+        csv.flush();
+    }
+
+    private void writeNdjson(Stream<ComplaintExportRow> stream, OutputStream out, AtomicLong rows)
+            throws IOException {
+        // Root separator "\n" gives one JSON object per line. Per-row flushes
+        // are off so the generator's buffer fills before hitting the socket,
+        // and closing the writer must leave the response stream open.
+        try (SequenceWriter writer = objectMapper.writerFor(ComplaintExportRow.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            stream.forEach(r -> {
+                try {
+                    writer.write(r);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows.incrementAndGet();
+            });
+        }
+        if (rows.get() > 0) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,303 @@
+package com.infosys.SpringBoard.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.infosys.SpringBoard.dto.GeoPointRow;
+import com.infosys.SpringBoard.dto.NearbyComplaintDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+
+/**
+ * In-memory grid index of open (not RESOLVED) complaints that have
+ * coordinates, for "nearby" queries and duplicate suggestions at submit
+ * time. The world is cut into fixed cells of {@link #CELL_DEGREES}; a query
+ * only scans the cells its radius overlaps, so its cost depends on local
+ * density rather than on the total number of open complaints.
+ * <p>
+ * Seeded from the database once the application is ready, updated from
+ * committed {@link ComplaintChangedEvent}s and periodically rebuilt to
+ * repair any drift, like {@link ComplaintCounterService}. Changes made
+ * while a rebuild reads the table are replayed onto the new grid before it
+ * replaces the old one, since the rows it read may predate them.
+ */
+@Service
+public class ComplaintGeoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintGeoIndex.class);
+
+    // About 550 m north-south; a duplicate check usually touches 1-4 cells
+    static final double CELL_DEGREES = 0.005;
+    private static final long LON_CELLS = Math.round(360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_M = 6_371_008.8;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_M / 180;
+
+    public static final int MAX_RADIUS_M = 5_000;
+    public static final int MAX_RESULTS = 100;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Value("${geo.duplicate-radius-m:150}")
+    private int duplicateRadiusMeters;
+
+    @Value("${geo.duplicate-limit:5}")
+    private int duplicateLimit;
+
+    private volatile Grid grid = new Grid();
+    // Writes made while reload() streams rows, by id (null = removed); null when no reload runs.
+    // Guarded by this
+    private Map<Long, Point> changedDuringReload;
+
+    // --- Lifecycle ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seed() {
+        reload();
+        log.info("Geo index seeded with {} open complaints", grid.byId.size());
+    }
+
+    @Scheduled(fixedDelayString = "${geo.reconcile-interval-ms:900000}",
+            initialDelayString = "${geo.reconcile-interval-ms:900000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot after = event.getAfter();
+        if (after == null || after.getStatus() == Complains.Status.RESOLVED
+                || after.getLatitude() == null || after.getLongitude() == null) {
+            remove(event.getComplainId());
+            return;
+        }
+        put(event.getComplainId(), after.getLatitude(), after.getLongitude(), after.getTitle(),
+                after.getCategory(), after.getStatus(), after.getCreatedAt());
+    }
+
+    // --- Writes ---
+
+    public void put(long complainId, double latitude, double longitude, String title, String category,
+            Complains.Status status, LocalDateTime createdAt) {
+        write(complainId, new Point(complainId, latitude, longitude, title, category, status, createdAt));
+    }
+
+    public void remove(long complainId) {
+        write(complainId, null);
+    }
+
+    public int size() {
+        return grid.byId.size();
+    }
+
+    // --- Queries ---
+
+    /**
+     * Open complaints within {@code radiusMeters} of the point, nearest
+     * first, optionally limited to one category (case-insensitive).
+     */
+    public List<NearbyComplaintDTO> nearby(double latitude, double longitude, int radiusMeters, String category,
+            int limit) {
+        validateCoordinates(latitude, longitude);
+        int radius = Math.clamp(radiusMeters, 1, MAX_RADIUS_M);
+        int max = Math.clamp(limit, 1, MAX_RESULTS);
+        String wantedCategory = (category == null || category.isBlank()) ? null : category.trim();
+
+        double latDelta = radius / METERS_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lonDelta = cosLat < 1e-6 ? 180 : Math.min(180, latDelta / cosLat);
+
+        long minLatCell = latCell(Math.max(-90, latitude - latDelta));
+        long maxLatCell = latCell(Math.min(90, latitude + latDelta));
+        long minLonCell = (long) Math.floor((longitude - lonDelta + 180) / CELL_DEGREES);
+        long maxLonCell = Math.min(minLonCell + LON_CELLS - 1,
+                (long) Math.floor((longitude + lonDelta + 180) / CELL_DEGREES));
+
+        // Bounded max-heap on distance: only the nearest `max` hits are kept and materialized
+        Grid current = grid;
+        PriorityQueue<Hit> nearest = new PriorityQueue<>(max + 1, Comparator.comparingDouble(Hit::distance)
+                .thenComparingLong(h -> h.point.complainId).reversed());
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                // Wrap across the antimeridian
+                Map<Long, Point> cell = current.cells.get(cellKey(latCell, Math.floorMod(lonCell, LON_CELLS)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Point p : cell.values()) {
+                    if (wantedCategory != null && !wantedCategory.equalsIgnoreCase(p.category)) {
+                        continue;
+                    }
+                    double distance = distanceMeters(latitude, longitude, p.latitude, p.longitude);
+                    if (distance > radius || (nearest.size() == max && distance >= nearest.peek().distance)) {
+                        continue;
+                    }
+                    nearest.add(new Hit(p, distance));
+                    if (nearest.size() > max) {
+                        nearest.poll();
+                    }
+                }
+            }
+        }
+
+        List<NearbyComplaintDTO> result = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            Hit hit = nearest.poll();
+            Point p = hit.point;
+            result.add(new NearbyComplaintDTO(p.complainId, p.title, p.category, p.status,
+                    p.latitude, p.longitude, (int) Math.round(hit.distance), p.createdAt));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /** Likely duplicates of a new complaint: same category within {@code geo.duplicate-radius-m}. */
+    public List<NearbyComplaintDTO> suggestDuplicates(double latitude, double longitude, String category) {
+        return nearby(latitude, longitude, duplicateRadiusMeters, category, duplicateLimit);
+    }
+
+    /**
+     * Coordinates are optional, but must be given together and in range.
+     *
+     * @throws IllegalArgumentException otherwise
+     */
+    public static void validateCoordinates(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("latitude and longitude must be given together.");
+        }
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("latitude must be within [-90, 90] and longitude within [-180, 180].");
+        }
+    }
+
+    // --- Internals ---
+
+    private synchronized void write(long complainId, Point point) {
+        if (point == null) {
+            grid.remove(complainId);
+        } else {
+            grid.put(point);
+        }
+        if (changedDuringReload != null) {
+            changedDuringReload.put(complainId, point);
+        }
+    }
+
+    private void reload() {
+        synchronized (this) {
+            changedDuringReload = new HashMap<>();
+        }
+        Grid fresh = new Grid();
+        try (Stream<GeoPointRow> rows = complainRepository.streamOpenWithCoordinates()) {
+            rows.forEach(r -> fresh.put(new Point(r.getComplainId(), r.getLatitude(), r.getLongitude(),
+                    r.getTitle(), r.getCategory(), r.getStatus(), r.getCreatedAt())));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringReload = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            changedDuringReload.forEach((id, point) -> {
+                if (point == null) {
+                    fresh.remove(id);
+                } else {
+                    fresh.put(point);
+                }
+            });
+            changedDuringReload = null;
+            grid = fresh;
+        }
+    }
+
+    private static long latCell(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static long cellKey(long latCell, long lonCell) {
+        return latCell * LON_CELLS + lonCell;
+    }
+
+    private static long cellKeyOf(double latitude, double longitude) {
+        long lonCell = Math.floorMod((long) Math.floor((longitude + 180) / CELL_DEGREES), LON_CELLS);
+        return cellKey(latCell(latitude), lonCell);
+    }
+
+    /** Haversine great-circle distance. */
+    static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private record Hit(Point point, double distance) {
+    }
+
+    private record Point(long complainId, double latitude, double longitude, String title, String category,
+            Complains.Status status, LocalDateTime createdAt) {
+    }
+
+    /** One generation of the index; replaced wholesale on reconcile. Reads are lock-free. */
+    private static final class Grid {
+        final ConcurrentHashMap<Long, Map<Long, Point>> cells = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, Point> byId = new ConcurrentHashMap<>();
+
+        // Writers are serialized so a move never leaves a complaint in two cells
+        synchronized void put(Point point) {
+            Point previous = byId.put(point.complainId, point);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            cells.computeIfAbsent(cellKeyOf(point.latitude, point.longitude), k -> new ConcurrentHashMap<>())
+                    .put(point.complainId, point);
+        }
+
+        synchronized void remove(long complainId) {
+            Point previous = byId.remove(complainId);
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+        }
+
+        private void removeFromCell(Point point) {
+            long key = cellKeyOf(point.latitude, point.longitude);
+            Map<Long, Point> cell = cells.get(key);
+            if (cell != null) {
+                cell.remove(point.complainId);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+}
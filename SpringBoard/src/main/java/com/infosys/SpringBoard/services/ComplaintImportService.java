@@ -0,0 +1,471 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infosys.SpringBoard.dto.DepartmentSummaryDTO;
+import com.infosys.SpringBoard.dto.ImportResultDTO;
+import com.infosys.SpringBoard.entity.ComplaintImport;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.entity.User;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.ComplaintImportRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.repository.UserRepo;
+
+/**
+ * Bulk import of legacy complaints from CSV (header row required) or NDJSON.
+ * <p>
+ * The input is parsed one record at a time and written in chunks of
+ * {@code import.chunk-size}: each chunk is one transaction holding the
+ * batched INSERTs and the checkpoint advance, so a failed import can be
+ * resumed by sending the same file again with its import id. Invalid
+ * records are counted and reported but don't stop the import. User ids
+ * are resolved with one query per chunk for ids not seen before, and
+ * departments (by id or name) from the cached department list, then loaded
+ * with one query in the chunk's transaction.
+ * <p>
+ * Fields: userId, title, category, city (required); description, location,
+ * status, departmentId or department, deadlineDate, createdAt, resolvedAt.
+ */
+@Service
+public class ComplaintImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_CACHED_USERS = 50_000;
+    private static final int MAX_VARCHAR = 255;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /** From an explicit format parameter, else the request content type. */
+        public static Format detect(String format, String contentType) {
+            String hint = (format != null && !format.isBlank() ? format : String.valueOf(contentType))
+                    .toLowerCase(Locale.ROOT);
+            if (hint.contains("csv")) {
+                return CSV;
+            }
+            if (hint.contains("ndjson") || hint.contains("jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import format; use format=csv or format=ndjson.");
+        }
+    }
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private ComplaintImportRepository importRepository;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Runs (or resumes) an import, reading {@code body} to the end.
+     *
+     * @throws IllegalArgumentException when {@code resumeId} is unknown
+     * @throws IllegalStateException when {@code resumeId} already completed
+     */
+    public ImportResultDTO importComplaints(InputStream body, Format format, String fileName, Long resumeId) {
+        ComplaintImport job = resumeId == null ? start(format, fileName) : resume(resumeId);
+        ImportRun run = new ImportRun(job.getId(), job.getCheckpoint());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            RecordSource source = format == Format.CSV ? csvSource(reader) : ndjsonSource(reader);
+            List<PendingRecord> chunk = new ArrayList<>(chunkSize);
+            long recordNo = 0;
+            ParsedRecord record;
+            while ((record = source.next()) != null) {
+                recordNo++;
+                if (recordNo <= run.checkpoint) {
+                    continue; // committed by an earlier run
+                }
+                chunk.add(new PendingRecord(recordNo, record));
+                if (chunk.size() >= chunkSize) {
+                    commitChunk(run, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(run, chunk);
+            }
+            return finish(run, ComplaintImport.Status.COMPLETED, null);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import {} stopped after record {}", run.importId, run.checkpoint, e);
+            return finish(run, ComplaintImport.Status.FAILED, e.getMessage());
+        }
+    }
+
+    public ImportResultDTO getProgress(long importId) {
+        return importRepository.findById(importId)
+                .map(job -> ImportResultDTO.of(job, List.of()))
+                .orElseThrow(() -> new IllegalArgumentException("Import " + importId + " not found."));
+    }
+
+    // --- Job bookkeeping ---
+
+    private ComplaintImport start(Format format, String fileName) {
+        ComplaintImport job = new ComplaintImport();
+        job.setFormat(format.name());
+        job.setFileName(fileName);
+        job.setStartedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getStartedAt());
+        return importRepository.save(job);
+    }
+
+    private ComplaintImport resume(long importId) {
+        ComplaintImport job = importRepository.findById(importId)
+                .orElseThrow(() -> new IllegalArgumentException("Import " + importId + " not found."));
+        if (job.getStatus() == ComplaintImport.Status.COMPLETED) {
+            throw new IllegalStateException("Import " + importId + " already completed.");
+        }
+        job.setStatus(ComplaintImport.Status.RUNNING);
+        job.setLastError(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        return importRepository.save(job);
+    }
+
+    private ImportResultDTO finish(ImportRun run, ComplaintImport.Status status, String error) {
+        ComplaintImport job = importRepository.findById(run.importId).orElseThrow();
+        job.setStatus(status);
+        job.setLastError(error == null ? null : truncate(error, 1000));
+        job.setUpdatedAt(LocalDateTime.now());
+        return ImportResultDTO.of(importRepository.save(job), run.errors);
+    }
+
+    // --- Chunk processing ---
+
+    private void commitChunk(ImportRun run, List<PendingRecord> chunk) {
+        resolveUsers(run, chunk);
+
+        List<Complains> valid = new ArrayList<>(chunk.size());
+        Map<Complains, Long> departmentIds = new HashMap<>();
+        int rejected = 0;
+        for (PendingRecord pending : chunk) {
+            try {
+                if (pending.record.error != null) {
+                    throw new IllegalArgumentException(pending.record.error);
+                }
+                Complains complaint = toComplaint(run, pending.record.fields);
+                Long departmentId = resolveDepartment(run, pending.record.fields);
+                if (departmentId != null) {
+                    departmentIds.put(complaint, departmentId);
+                }
+                valid.add(complaint);
+            } catch (IllegalArgumentException e) {
+                rejected++;
+                run.reportError(pending.recordNo, e.getMessage());
+            }
+        }
+
+        long expected = run.checkpoint;
+        long last = chunk.get(chunk.size() - 1).recordNo;
+        int importedCount = valid.size();
+        int rejectedCount = rejected;
+        transactionTemplate.executeWithoutResult(status -> {
+            // Loaded here, not referenced while parsing: snapshots read the name
+            Map<Long, Department> departments = new HashMap<>();
+            departmentRepository.findAllById(new HashSet<>(departmentIds.values()))
+                    .forEach(d -> departments.put(d.getId(), d));
+            departmentIds.forEach((c, departmentId) -> c.setDepartment(departments.get(departmentId)));
+
+            List<Complains> saved = complainRepository.saveAll(valid);
+            // Taken before the checkpoint update, which clears the persistence context
+            List<ComplaintChangedEvent> events = new ArrayList<>(saved.size());
+            for (Complains c : saved) {
+                events.add(new ComplaintChangedEvent(c.getComplainId(), c.getUserId(), null, ComplaintSnapshot.of(c)));
+            }
+            if (importRepository.advanceCheckpoint(run.importId, expected, last, chunk.size(), importedCount,
+                    rejectedCount, LocalDateTime.now()) == 0) {
+                throw new IllegalStateException("Import " + run.importId + " was advanced by another run.");
+            }
+            events.forEach(eventPublisher::publishEvent);
+        });
+        run.checkpoint = last;
+    }
+
+    /** Loads users referenced by this chunk that aren't cached yet, in one query. */
+    private void resolveUsers(ImportRun run, List<PendingRecord> chunk) {
+        Set<Long> missing = new HashSet<>();
+        for (PendingRecord pending : chunk) {
+            if (pending.record.fields == null) {
+                continue;
+            }
+            Long userId = parseLongOrNull(pending.record.fields.get("userid"));
+            if (userId != null && !run.users.containsKey(userId)) {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<Long, User> found = new HashMap<>();
+        userRepo.findAllById(missing).forEach(u -> found.put(u.getId(), u));
+        // Unknown ids are cached as null so they aren't queried again
+        missing.forEach(id -> run.users.put(id, found.get(id)));
+    }
+
+    private Complains toComplaint(ImportRun run, Map<String, String> f) {
+        Long userId = parseLongOrNull(f.get("userid"));
+        if (userId == null) {
+            throw new IllegalArgumentException("userId is required and must be a number");
+        }
+        User user = run.users.get(userId);
+        if (user == null) {
+            throw new IllegalArgumentException("user " + userId + " not found");
+        }
+
+        Complains c = new Complains();
+        c.setUserId(userId);
+        c.setFirstName(user.getFirstName());
+        c.setUserEmail(user.getEmail());
+        c.setTitle(varchar(f, "title", true));
+        c.setCategory(varchar(f, "category", true));
+        c.setCity(varchar(f, "city", true));
+        c.setLocation(varchar(f, "location", false));
+        c.setDescription(varchar(f, "description", false));
+
+        String status = blankToNull(f.get("status"));
+        if (status != null) {
+            try {
+                c.setStatus(Complains.Status.valueOf(status.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("invalid status '" + status + "'");
+            }
+        }
+
+        try {
+            String deadline = blankToNull(f.get("deadlinedate"));
+            c.setDeadlineDate(deadline == null ? null : LocalDate.parse(deadline));
+            c.setCreatedAt(parseDateTime(f.get("createdat"), LocalDateTime.now()));
+            c.setResolvedAt(parseDateTime(f.get("resolvedat"), null));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid date '" + e.getParsedString() + "' (use ISO-8601)");
+        }
+        return c;
+    }
+
+    private Long resolveDepartment(ImportRun run, Map<String, String> f) {
+        String id = blankToNull(f.get("departmentid"));
+        if (id != null) {
+            Long departmentId = parseLongOrNull(id);
+            if (departmentId == null || !run.departmentIds().contains(departmentId)) {
+                throw new IllegalArgumentException("department " + id + " not found");
+            }
+            return departmentId;
+        }
+        String name = blankToNull(f.get("department"));
+        if (name != null) {
+            Long departmentId = run.departmentsByName().get(name.toLowerCase(Locale.ROOT));
+            if (departmentId == null) {
+                throw new IllegalArgumentException("department '" + name + "' not found");
+            }
+            return departmentId;
+        }
+        return null;
+    }
+
+    // --- Parsing ---
+
+    private interface RecordSource {
+        ParsedRecord next() throws IOException;
+    }
+
+    /** Fields keyed by lower-cased column name, or a parse error for the whole record. */
+    private record ParsedRecord(Map<String, String> fields, String error) {
+    }
+
+    private record PendingRecord(long recordNo, ParsedRecord record) {
+    }
+
+    private static RecordSource csvSource(BufferedReader reader) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+        List<String> columns = header.stream()
+                .map(h -> h.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+        return () -> {
+            List<String> values = csv.next();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() != columns.size()) {
+                return new ParsedRecord(null,
+                        "expected " + columns.size() + " columns but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                fields.put(columns.get(i), values.get(i));
+            }
+            return new ParsedRecord(fields, null);
+        };
+    }
+
+    private RecordSource ndjsonSource(BufferedReader reader) {
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    return new ParsedRecord(null, "not a JSON object");
+                }
+                Map<String, String> fields = new HashMap<>();
+                node.fields().forEachRemaining(e -> fields.put(e.getKey().toLowerCase(Locale.ROOT),
+                        e.getValue().isNull() ? null : e.getValue().asText()));
+                return new ParsedRecord(fields, null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRecord(null, "malformed JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    // --- Field helpers ---
+
+    private static String varchar(Map<String, String> f, String name, boolean required) {
+        String value = blankToNull(f.get(name));
+        if (value == null) {
+            if (required) {
+                throw new IllegalArgumentException(name + " is required");
+            }
+            return null;
+        }
+        if (value.length() > MAX_VARCHAR) {
+            throw new IllegalArgumentException(name + " is longer than " + MAX_VARCHAR + " characters");
+        }
+        return value;
+    }
+
+    private static LocalDateTime parseDateTime(String value, LocalDateTime fallback) {
+        value = blankToNull(value);
+        if (value == null) {
+            return fallback;
+        }
+        // Date-only values mean the start of that day
+        return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+
+    private static Long parseLongOrNull(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return (value == null || value.isBlank()) ? null : value.trim();
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+
+    /** State of one import request; lookups live only as long as the run. */
+    private final class ImportRun {
+        private final long importId;
+        private long checkpoint;
+        private final List<String> errors = new ArrayList<>();
+
+        // Bounded LRU of user id -> user (null for ids known not to exist)
+        private final Map<Long, User> users = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, User> eldest) {
+                return size() > MAX_CACHED_USERS;
+            }
+        };
+
+        private Set<Long> departmentIds;
+        private Map<String, Long> departmentsByName;
+
+        ImportRun(long importId, long checkpoint) {
+            this.importId = importId;
+            this.checkpoint = checkpoint;
+        }
+
+        void reportError(long recordNo, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("record " + recordNo + ": " + message);
+            }
+        }
+
+        Set<Long> departmentIds() {
+            loadDepartments();
+            return departmentIds;
+        }
+
+        Map<String, Long> departmentsByName() {
+            loadDepartments();
+            return departmentsByName;
+        }
+
+        private void loadDepartments() {
+            if (departmentIds != null) {
+                return;
+            }
+            departmentIds = new HashSet<>();
+            departmentsByName = new HashMap<>();
+            for (DepartmentSummaryDTO d : departmentService.getAllDepartments()) {
+                departmentIds.add(d.getId());
+                departmentsByName.put(d.getName().toLowerCase(Locale.ROOT), d.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.DisjunctionMaxQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.infosys.SpringBoard.dto.ComplaintExportRow;
+import com.infosys.SpringBoard.dto.ComplaintSearchResultDTO;
+import com.infosys.SpringBoard.dto.SearchRebuildResultDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Full-text search over complaint title, description, location, city and
+ * category, backed by a Lucene index in {@code search.index-dir}.
+ * <p>
+ * The index follows committed {@link ComplaintChangedEvent}s. Changes become
+ * searchable at the next refresh ({@code search.refresh-interval-ms}) and
+ * durable at the next commit ({@code search.commit-interval-ms}). If the
+ * document count doesn't match the database at startup, for example after
+ * a crash lost uncommitted changes, the index is rebuilt in the background.
+ * A rebuild splits the id range across threads that feed one IndexWriter,
+ * so document analysis uses every core. Complaints changed while a rebuild
+ * runs are read again once the slices are done, since a slice may have
+ * written an older row over the live change. A rebuild that fails is rolled
+ * back to the index as it was when it started, plus the changes made
+ * meanwhile.
+ */
+@Service
+public class ComplaintSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintSearchService.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // Deep pages cost O(from + size) per request, so cap how far a client can page
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final float PREFIX_WEIGHT = 0.5f;
+
+    // --- Index fields ---
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String LOCATION = "location";
+    private static final String CITY = "city";
+    private static final String CATEGORY = "category";
+    private static final String STATUS = "status";
+    private static final String DEPARTMENT_ID = "departmentId";
+
+    // Searched fields and their weights
+    private static final Map<String, Float> BOOSTS = new LinkedHashMap<>();
+    static {
+        BOOSTS.put(TITLE, 3f);
+        BOOSTS.put(CATEGORY, 2f);
+        BOOSTS.put(LOCATION, 1.5f);
+        BOOSTS.put(CITY, 1.5f);
+        BOOSTS.put(DESCRIPTION, 1f);
+    }
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${search.index-dir:./search-index}")
+    private String indexDir;
+
+    @Value("${search.rebuild-threads:0}")
+    private int rebuildThreads;
+
+    private final Analyzer analyzer = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            StandardTokenizer source = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(source));
+            return new TokenStreamComponents(source, stream);
+        }
+    };
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Complaints changed while a rebuild runs, re-indexed from the database when it ends
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    // Write-locked only to replace the writer after a failed rebuild
+    private final ReadWriteLock writerLock = new ReentrantReadWriteLock();
+
+    private FSDirectory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    // --- Lifecycle ---
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(Path.of(indexDir));
+        openWriter();
+    }
+
+    private void openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(64);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close(); // commits pending changes
+        directory.close();
+        analyzer.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        long expected = complainRepository.count();
+        long indexed = writer.getDocStats().numDocs;
+        if (expected == indexed) {
+            log.info("Search index holds {} complaints", indexed);
+            return;
+        }
+        log.warn("Search index holds {} complaints but the database has {}; rebuilding", indexed, expected);
+        Thread.ofPlatform().name("search-rebuild").daemon().start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException | IOException e) {
+                log.error("Search index rebuild failed", e);
+            }
+        });
+    }
+
+    // While rebuilding, searches keep using the last complete index
+    @Scheduled(fixedDelayString = "${search.refresh-interval-ms:1000}")
+    public void refresh() throws IOException {
+        if (!rebuilding.get()) {
+            writerLock.readLock().lock();
+            try {
+                searcherManager.maybeRefresh();
+            } finally {
+                writerLock.readLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:60000}")
+    public void commit() throws IOException {
+        if (!rebuilding.get()) {
+            writerLock.readLock().lock();
+            try {
+                if (writer.hasUncommittedChanges()) {
+                    writer.commit();
+                }
+            } finally {
+                writerLock.readLock().unlock();
+            }
+        }
+    }
+
+    // --- Index maintenance ---
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        writerLock.readLock().lock();
+        try {
+            if (rebuilding.get()) {
+                changedDuringRebuild.add(event.getComplainId());
+            }
+            Term id = idTerm(event.getComplainId());
+            ComplaintSnapshot after = event.getAfter();
+            if (after == null) {
+                writer.deleteDocuments(id);
+                return;
+            }
+            writer.updateDocument(id, toDocument(event.getComplainId(), after.getTitle(), after.getDescription(),
+                    after.getLocation(), after.getCity(), after.getCategory(), after.getStatus(),
+                    after.getDepartmentId()));
+        } catch (IOException e) {
+            // The database is the source of truth; a rebuild repairs the index
+            log.warn("Could not index complaint {}: {}", event.getComplainId(), e.getMessage());
+        } finally {
+            writerLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-creates the index from the database. Each thread walks its own
+     * slice of the id range in keyset pages; searchers see the previous
+     * index until the new one is committed. On failure the writer is rolled
+     * back, so the scheduled refresh and commit never see a partial index.
+     *
+     * @throws IllegalStateException when a rebuild is already running
+     */
+    public SearchRebuildResultDTO rebuild() throws IOException {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("A search index rebuild is already running.");
+        }
+        long started = System.nanoTime();
+        try {
+            // The point a failed rebuild returns to, live changes so far included
+            writer.commit();
+            changedDuringRebuild.clear();
+            writer.deleteAll();
+
+            Long minId = complainRepository.findMinId();
+            Long maxId = complainRepository.findMaxId();
+            int threads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+            long indexed = 0;
+            if (minId != null) {
+                long span = maxId - minId + 1;
+                long slice = (span + threads - 1) / threads;
+                int failures = 0;
+                try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+                    List<Future<Long>> parts = new ArrayList<>();
+                    for (long after = minId - 1; after < maxId; after += slice) {
+                        long from = after;
+                        long upTo = Math.min(after + slice, maxId);
+                        parts.add(pool.submit(() -> indexRange(from, upTo)));
+                    }
+                    for (Future<Long> part : parts) {
+                        try {
+                            indexed += part.get();
+                        } catch (ExecutionException e) {
+                            failures++;
+                            log.error("Search index rebuild slice failed", e.getCause());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Search index rebuild interrupted.", e);
+                }
+                if (failures > 0) {
+                    throw new IllegalStateException(failures + " rebuild slice(s) failed; see the log.");
+                }
+            }
+
+            reindexChanged();
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            long millis = (System.nanoTime() - started) / 1_000_000;
+            log.info("Search index rebuilt: {} complaints in {} ms on {} threads", indexed, millis, threads);
+            return new SearchRebuildResultDTO(indexed, threads, millis);
+        } catch (IOException | RuntimeException e) {
+            try {
+                rollBack();
+            } catch (IOException | RuntimeException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+            }
+            throw e;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /** Discards a failed rebuild: back to the last commit, then re-indexes what changed meanwhile. */
+    private void rollBack() throws IOException {
+        writerLock.writeLock().lock();
+        try {
+            searcherManager.close();
+            writer.rollback(); // also closes it
+            openWriter();
+        } finally {
+            writerLock.writeLock().unlock();
+        }
+        int reindexed = reindexChanged();
+        searcherManager.maybeRefreshBlocking();
+        log.warn("Search index rebuild rolled back; {} complaints changed meanwhile were re-indexed", reindexed);
+    }
+
+    /**
+     * Re-reads every complaint changed since the rebuild started. An id is
+     * taken out of the set before its row is read, so a change committed
+     * after that read puts it back and it is read once more.
+     *
+     * @return how many ids were re-indexed
+     */
+    private int reindexChanged() throws IOException {
+        int count = 0;
+        while (!changedDuringRebuild.isEmpty()) {
+            for (Iterator<Long> ids = changedDuringRebuild.iterator(); ids.hasNext();) {
+                long complainId = ids.next();
+                ids.remove();
+                List<ComplaintExportRow> rows = complainRepository.findExportRowsBetween(complainId - 1,
+                        complainId, Limit.of(1));
+                if (rows.isEmpty()) {
+                    writer.deleteDocuments(idTerm(complainId));
+                } else {
+                    indexRow(rows.get(0));
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long indexRange(long afterId, long upToId) throws IOException {
+        long count = 0;
+        long cursor = afterId;
+        while (true) {
+            List<ComplaintExportRow> rows = complainRepository.findExportRowsBetween(cursor, upToId,
+                    Limit.of(REBUILD_BATCH_SIZE));
+            for (ComplaintExportRow row : rows) {
+                indexRow(row);
+            }
+            count += rows.size();
+            if (rows.size() < REBUILD_BATCH_SIZE) {
+                return count;
+            }
+            cursor = rows.get(rows.size() - 1).getComplainId();
+        }
+    }
+
+    // updateDocument, not addDocument: a live change may already have indexed this id (and if the
+    // row is older than that change, reindexChanged() writes the current one afterwards)
+    private void indexRow(ComplaintExportRow row) throws IOException {
+        writer.updateDocument(idTerm(row.getComplainId()), toDocument(row.getComplainId(), row.getTitle(),
+                row.getDescription(), row.getLocation(), row.getCity(), row.getCategory(), row.getStatus(),
+                row.getDepartmentId()));
+    }
+
+    // --- Search ---
+
+    /**
+     * Ranked search. Every word in {@code q} must match one of the searched
+     * fields, either exactly or as a prefix (exact matches rank higher).
+     *
+     * @throws IllegalArgumentException when {@code q} has no searchable words
+     *                                  or the page is beyond the result window
+     */
+    public ComplaintSearchResultDTO search(String q, Complains.Status status, Long departmentId,
+            Integer page, Integer size) throws IOException {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        if ((long) pageNumber * pageSize + pageSize > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Results beyond the first " + MAX_RESULT_WINDOW
+                    + " are not available; refine the query.");
+        }
+        int from = pageNumber * pageSize;
+        Query query = buildQuery(q, status, departmentId);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        writerLock.readLock().lock();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                // Count every hit so the total is exact rather than a lower bound
+                TopDocs top = searcher.search(query,
+                        new TopScoreDocCollectorManager(from + pageSize, null, Integer.MAX_VALUE));
+                StoredFields storedFields = searcher.storedFields();
+                List<ComplaintSearchResultDTO.Hit> hits = new ArrayList<>();
+                for (int i = from; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document doc = storedFields.document(scoreDoc.doc);
+                    String department = doc.get(DEPARTMENT_ID);
+                    hits.add(new ComplaintSearchResultDTO.Hit(
+                            Long.valueOf(doc.get(ID)),
+                            scoreDoc.score,
+                            doc.get(TITLE),
+                            doc.get(CATEGORY),
+                            doc.get(CITY),
+                            doc.get(LOCATION),
+                            doc.get(STATUS),
+                            department == null ? null : Long.valueOf(department)));
+                }
+                return new ComplaintSearchResultDTO(top.totalHits.value, pageNumber, pageSize, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } finally {
+            writerLock.readLock().unlock();
+            sample.stop(meterRegistry.timer("search.query"));
+        }
+    }
+
+    private Query buildQuery(String q, Complains.Status status, Long departmentId) {
+        List<String> words = analyze(q == null ? "" : q);
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word.");
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String word : words) {
+            // Best field wins, with a little credit for matching others too
+            List<Query> alternatives = new ArrayList<>();
+            BOOSTS.forEach((field, boost) -> {
+                alternatives.add(new BoostQuery(new TermQuery(new Term(field, word)), boost));
+                if (word.length() >= MIN_PREFIX_LENGTH) {
+                    alternatives.add(new BoostQuery(new PrefixQuery(new Term(field, word)), boost * PREFIX_WEIGHT));
+                }
+            });
+            query.add(new DisjunctionMaxQuery(alternatives, 0.1f), BooleanClause.Occur.MUST);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        if (departmentId != null) {
+            query.add(new TermQuery(new Term(DEPARTMENT_ID, departmentId.toString())), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory analysis; not expected
+        }
+        return words;
+    }
+
+    // --- Documents ---
+
+    private static Term idTerm(long complainId) {
+        return new Term(ID, Long.toString(complainId));
+    }
+
+    private static Document toDocument(long complainId, String title, String description, String location,
+            String city, String category, Complains.Status status, Long departmentId) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, Long.toString(complainId), Field.Store.YES));
+        addText(doc, TITLE, title, Field.Store.YES);
+        addText(doc, DESCRIPTION, description, Field.Store.NO);
+        addText(doc, LOCATION, location, Field.Store.YES);
+        addText(doc, CITY, city, Field.Store.YES);
+        addText(doc, CATEGORY, category, Field.Store.YES);
+        if (status != null) {
+            doc.add(new StringField(STATUS, status.name(), Field.Store.YES));
+        }
+        if (departmentId != null) {
+            doc.add(new StringField(DEPARTMENT_ID, departmentId.toString(), Field.Store.YES));
+        }
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value, Field.Store store) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, store));
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infosys.SpringBoard.config.AsyncConfig;
+import com.infosys.SpringBoard.dto.ComplaintUpdateDTO;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSlaEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Server-Sent Event streams of complaint changes, one per citizen and one
+ * per department, so dashboards update without re-downloading their lists.
+ * <p>
+ * Fed from committed {@link ComplaintChangedEvent}s ({@code complaint}
+ * events) and from {@link ComplaintSlaEvent}s ({@code sla} events). Each
+ * event is serialized once and shared by every subscriber it goes to.
+ * <p>
+ * An idle subscriber is an async request and an empty queue, with no thread.
+ * Writes go through a per-subscriber buffer of {@code sse.buffer-size}
+ * events with at most one write in flight, so publishing never blocks on a
+ * slow client. When a client falls that far behind, its buffer is replaced
+ * by a single {@code resync} event telling it to reload its list.
+ */
+@Service
+public class ComplaintUpdateStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ComplaintUpdateStream.class);
+
+    private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("{}").build();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier(AsyncConfig.SSE_EXECUTOR)
+    private Executor sendExecutor;
+
+    @Value("${sse.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${sse.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private Counter resyncs;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("sse.subscribers", subscriberCount);
+        resyncs = meterRegistry.counter("sse.resyncs");
+    }
+
+    // --- Subscriptions ---
+
+    public SseEmitter subscribeUser(long userId) {
+        return subscribe(userKey(userId));
+    }
+
+    public SseEmitter subscribeDepartment(long departmentId) {
+        return subscribe(departmentKey(departmentId));
+    }
+
+    /**
+     * @throws IllegalStateException when {@code sse.max-subscribers} streams
+     *                               are already open
+     */
+    private SseEmitter subscribe(String key) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("Too many live-update subscribers. Please try again later.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(key, emitter);
+        // compute, not computeIfAbsent + add: close() may be removing the key's last subscriber
+        subscribers.compute(key, (k, set) -> {
+            Set<Subscriber> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        // Sent right away so the client knows the stream is open
+        subscriber.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    // --- Fan-out ---
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot after = event.getAfter();
+        if (after == null || subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> message = toEvent("complaint", new ComplaintUpdateDTO(
+                event.getComplainId(), after.getStatus(), after.getMessage(), after.getDepartmentId(),
+                after.getDepartmentName(), after.getDeadlineDate()));
+        publish(userKey(event.getUserId()), message);
+        if (after.getDepartmentId() != null) {
+            publish(departmentKey(after.getDepartmentId()), message);
+        }
+        // A department the complaint was taken from sees it leave
+        ComplaintSnapshot before = event.getBefore();
+        if (before != null && before.getDepartmentId() != null
+                && !before.getDepartmentId().equals(after.getDepartmentId())) {
+            publish(departmentKey(before.getDepartmentId()), message);
+        }
+    }
+
+    @EventListener
+    public void onSlaEvent(ComplaintSlaEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> message = toEvent("sla", event);
+        publish(userKey(event.getUserId()), message);
+        if (event.getDepartmentId() != null) {
+            publish(departmentKey(event.getDepartmentId()), message);
+        }
+    }
+
+    /** Keeps idle connections open through proxies and detects dead clients. */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(set -> set.forEach(s -> s.offerIfIdle(ping)));
+    }
+
+    // --- Internals ---
+
+    private void publish(String key, Set<DataWithMediaType> message) {
+        Set<Subscriber> set = subscribers.get(key);
+        if (set != null) {
+            set.forEach(s -> s.offer(message));
+        }
+    }
+
+    private Set<DataWithMediaType> toEvent(String name, Object payload) {
+        try {
+            return SseEmitter.event().name(name).data(objectMapper.writeValueAsString(payload)).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String userKey(long userId) {
+        return "user:" + userId;
+    }
+
+    private static String departmentKey(long departmentId) {
+        return "department:" + departmentId;
+    }
+
+    private final class Subscriber {
+        private final String key;
+        private final SseEmitter emitter;
+        // Guarded by this
+        private final ArrayDeque<Set<DataWithMediaType>> buffer = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+
+        Subscriber(String key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    // Too far behind: whatever is queued is superseded by a reload
+                    buffer.clear();
+                    buffer.add(RESYNC);
+                    resyncs.increment();
+                } else {
+                    buffer.add(message);
+                }
+                if (sending) {
+                    return;
+                }
+                sending = true;
+            }
+            sendExecutor.execute(this::drain);
+        }
+
+        void offerIfIdle(Set<DataWithMediaType> message) {
+            synchronized (this) {
+                if (sending || !buffer.isEmpty()) {
+                    return;
+                }
+            }
+            offer(message);
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> next;
+                synchronized (this) {
+                    next = buffer.poll();
+                    if (next == null || closed) {
+                        sending = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away; the container reports completion or error as well
+                    log.debug("Live-update stream {} closed: {}", key, e.getMessage());
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                buffer.clear();
+            }
+            subscribers.computeIfPresent(key, (k, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.infosys.SpringBoard.services;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+
+/**
+ * Change counters behind the ETags of the complaint list and dashboard
+ * endpoints. A matching {@code If-None-Match} is answered with 304 before
+ * any query runs or anything is serialized.
+ * <p>
+ * Lists are versioned per citizen and per department. Counters are bumped
+ * after commit, and a request reads its version before its data, so an ETag
+ * can only ever be older than the data sent with it, never newer: the worst
+ * case is one extra 200. Counters are striped by id to keep memory fixed; a
+ * bump for one id also changes the ETag of the ids sharing its stripe,
+ * which costs them a full response and nothing else. Every ETag carries a
+ * random per-process epoch because counters restart at zero. Dashboard
+ * ETags come from {@link ComplaintCounterService#version()}. Changes made on
+ * other nodes arrive through {@link ClusterSync}, about one poll interval
+ * later.
+ */
+@Service
+public class ComplaintVersions {
+
+    /** Clients must revalidate every time; only the owner's browser may store the response. */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final int STRIPES = 4096; // power of two
+
+    @Autowired
+    private ComplaintCounterService complaintCounterService;
+
+    private final String epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLongArray users = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray departments = new AtomicLongArray(STRIPES);
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        Long before = event.getBefore() == null ? null : event.getBefore().getDepartmentId();
+        Long after = event.getAfter() == null ? null : event.getAfter().getDepartmentId();
+        complaintChanged(event.getUserId(), before, after);
+    }
+
+    /**
+     * For writes that don't publish a {@link ComplaintChangedEvent} (e.g.
+     * feedback). Call after the change is committed.
+     */
+    public void complaintChanged(long userId, Long... departmentIds) {
+        users.incrementAndGet(stripe(userId));
+        for (Long departmentId : departmentIds) {
+            if (departmentId != null) {
+                departments.incrementAndGet(stripe(departmentId));
+            }
+        }
+    }
+
+    // --- ETags ---
+
+    public String userEtag(long userId, String view) {
+        return etag("u" + userId + "-" + view, users.get(stripe(userId)));
+    }
+
+    public String departmentEtag(long departmentId, String view) {
+        return etag("d" + departmentId + "-" + view, departments.get(stripe(departmentId)));
+    }
+
+    public String dashboardEtag(String name) {
+        return etag(name, complaintCounterService.version());
+    }
+
+    private String etag(String key, long version) {
+        return "\"" + key + "-" + epoch + "-" + version + "\"";
+    }
+
+    private static int stripe(long id) {
+        return Long.hashCode(id * 0x9E3779B97F4A7C15L) & (STRIPES - 1);
+    }
+}
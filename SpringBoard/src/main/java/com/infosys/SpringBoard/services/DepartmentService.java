@@ -1,10 +1,17 @@
 package com.infosys.SpringBoard.services;
 
+import com.infosys.SpringBoard.config.CacheConfig;
+import com.infosys.SpringBoard.dto.DepartmentSummaryDTO;
 import com.infosys.SpringBoard.entity.Department;
 import com.infosys.SpringBoard.repository.DepartmentRepo;
 
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,13 +19,15 @@ import java.util.Optional;
 @Service
 public class DepartmentService {
 
+    private static final Logger log = LoggerFactory.getLogger(DepartmentService.class);
+
     @Autowired
     private DepartmentRepo departmentRepository;
 
     public Optional<Department> loginWithDetails(String departmentName, String email, String password) {
         Department department = departmentRepository.findByNameAndEmail(departmentName, email);
-        System.out.println("Login attempt: " + departmentName + " | " + email + " | " + password);
-        System.out.println("Found department: " + (department != null ? department.getPassword() : "null"));
+        // Never log the submitted or stored password
+        log.debug("Department login attempt: {} | {} | found={}", departmentName, email, department != null);
 
         if (department != null && department.getPassword().equals(password)) {
             return Optional.of(department);
@@ -26,8 +35,23 @@ public class DepartmentService {
         return Optional.empty();
     }
 
-    public List<Department> getAllDepartments() {
-        return departmentRepository.findAll();
+    // Cached as (id, name) rows: detached entities with lazy collections can't
+    // be served safely from a cache.
+    @Cacheable(CacheConfig.DEPARTMENTS)
+    public List<DepartmentSummaryDTO> getAllDepartments() {
+        return departmentRepository.findAllSummaries();
+    }
+
+    public Optional<DepartmentSummaryDTO> getDepartmentSummary(Long id) {
+        return departmentRepository.findSummaryById(id);
+    }
+
+    /** Department with workers and complaints loaded up front (two queries) for full serialization. */
+    @Transactional(readOnly = true)
+    public Optional<Department> getDepartmentDetails(Long id) {
+        Optional<Department> department = departmentRepository.findWithWorkersById(id);
+        department.ifPresent(d -> Hibernate.initialize(d.getComplaints()));
+        return department;
     }
 
 }
\ No newline at end of file
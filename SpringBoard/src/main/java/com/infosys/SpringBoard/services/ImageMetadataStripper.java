@@ -0,0 +1,240 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Losslessly removes metadata (EXIF/GPS, XMP, IPTC, comments, text chunks)
+ * from JPEG and PNG streams by copying every other segment byte for byte.
+ * A JPEG's EXIF Orientation is the one tag kept, in a minimal EXIF segment of
+ * its own, so photos taken with the camera turned still display upright.
+ * Other formats are copied unchanged. A JPEG or PNG that can't be parsed is
+ * rejected with {@link MalformedImageException}.
+ */
+final class ImageMetadataStripper {
+
+    private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' };
+    private static final Set<String> PNG_METADATA_CHUNKS = Set.of("tEXt", "zTXt", "iTXt", "eXIf", "tIME");
+    private static final byte[] EXIF_HEADER = { 'E', 'x', 'i', 'f', 0, 0 };
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    /** EXIF Orientation of an image stored upright. */
+    static final int UPRIGHT = 1;
+
+    private ImageMetadataStripper() {
+    }
+
+    static void copyWithoutMetadata(InputStream source, OutputStream target) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(source);
+        in.mark(PNG_SIGNATURE.length);
+        byte[] head = in.readNBytes(PNG_SIGNATURE.length);
+        in.reset();
+
+        try {
+            if (head.length >= 2 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8) {
+                copyJpeg(new DataInputStream(in), new DataOutputStream(target));
+            } else if (Arrays.equals(head, PNG_SIGNATURE)) {
+                copyPng(new DataInputStream(in), new DataOutputStream(target));
+            } else {
+                in.transferTo(target);
+            }
+        } catch (EOFException e) {
+            throw new MalformedImageException("Image data ends unexpectedly", e);
+        }
+    }
+
+    /**
+     * The EXIF Orientation (1-8) of a JPEG stream, {@link #UPRIGHT} when it
+     * has none, isn't a JPEG or is malformed. Reads only up to the image data.
+     */
+    static int readOrientation(InputStream source) throws IOException {
+        try {
+            return findOrientation(new DataInputStream(new BufferedInputStream(source)));
+        } catch (EOFException | MalformedImageException e) {
+            return UPRIGHT;
+        }
+    }
+
+    private static int findOrientation(DataInputStream in) throws IOException {
+        if (in.readUnsignedShort() != 0xFFD8) {
+            return UPRIGHT;
+        }
+        while (true) {
+            if (in.readUnsignedByte() != 0xFF) {
+                return UPRIGHT;
+            }
+            int marker = in.readUnsignedByte();
+            while (marker == 0xFF) {
+                marker = in.readUnsignedByte();
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                return UPRIGHT;
+            }
+            if ((marker >= 0xD0 && marker <= 0xD7) || marker == 0x01) {
+                continue;
+            }
+            int length = segmentLength(in);
+            if (marker == 0xE1) {
+                int orientation = orientationOf(in.readNBytes(length - 2));
+                if (orientation != 0) {
+                    return orientation;
+                }
+            } else {
+                in.skipNBytes(length - 2);
+            }
+        }
+    }
+
+    // JPEG: drop APP1 (EXIF/XMP), APP3-APP13 (incl. IPTC), APP15 and COM; an EXIF
+    // Orientation other than upright is written back as a minimal APP1 of its own.
+    // APP0 (JFIF), APP2 (ICC profile) and APP14 (Adobe colour transform) affect decoding and are kept.
+    private static void copyJpeg(DataInputStream in, DataOutputStream out) throws IOException {
+        out.writeShort(in.readUnsignedShort()); // SOI
+        while (true) {
+            if (in.readUnsignedByte() != 0xFF) {
+                throw new MalformedImageException("Corrupt JPEG: expected marker");
+            }
+            int marker = in.readUnsignedByte();
+            while (marker == 0xFF) { // fill bytes
+                marker = in.readUnsignedByte();
+            }
+            if (marker == 0xDA || marker == 0xD9) { // start of scan / end of image: rest is image data
+                out.writeByte(0xFF);
+                out.writeByte(marker);
+                in.transferTo(out);
+                return;
+            }
+            if ((marker >= 0xD0 && marker <= 0xD7) || marker == 0x01) { // standalone markers
+                out.writeByte(0xFF);
+                out.writeByte(marker);
+                continue;
+            }
+            int length = segmentLength(in);
+            if (marker == 0xE1) {
+                int orientation = orientationOf(readFully(in, length - 2));
+                if (orientation > UPRIGHT) {
+                    writeOrientationSegment(out, orientation);
+                }
+                continue;
+            }
+            boolean metadata = (marker >= 0xE3 && marker <= 0xED) || marker == 0xEF || marker == 0xFE;
+            if (metadata) {
+                in.skipNBytes(length - 2);
+            } else {
+                out.writeByte(0xFF);
+                out.writeByte(marker);
+                out.writeShort(length);
+                copyExactly(in, out, length - 2);
+            }
+        }
+    }
+
+    /** A JPEG segment length, which counts its own two bytes. */
+    private static int segmentLength(DataInputStream in) throws IOException {
+        int length = in.readUnsignedShort();
+        if (length < 2) {
+            throw new MalformedImageException("Corrupt JPEG: segment length " + length);
+        }
+        return length;
+    }
+
+    private static byte[] readFully(InputStream in, int count) throws IOException {
+        byte[] bytes = in.readNBytes(count);
+        if (bytes.length < count) {
+            throw new EOFException();
+        }
+        return bytes;
+    }
+
+    /** Orientation from an APP1 payload; 0 when it isn't EXIF or has no valid Orientation tag. */
+    private static int orientationOf(byte[] app1) {
+        if (app1.length < EXIF_HEADER.length + 8 || !Arrays.equals(app1, 0, EXIF_HEADER.length, EXIF_HEADER, 0,
+                EXIF_HEADER.length)) {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, EXIF_HEADER.length, app1.length - EXIF_HEADER.length).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return 0;
+        }
+        long ifd = tiff.getInt(4) & 0xFFFFFFFFL;
+        if (ifd + 2 > tiff.limit()) {
+            return 0;
+        }
+        int entries = tiff.getShort((int) ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                return 0;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : 0;
+            }
+        }
+        return 0;
+    }
+
+    // APP1: "Exif\0\0", big-endian TIFF header, IFD0 holding only Orientation (SHORT), no next IFD
+    private static void writeOrientationSegment(DataOutputStream out, int orientation) throws IOException {
+        out.writeShort(0xFFE1);
+        out.writeShort(2 + EXIF_HEADER.length + 26);
+        out.write(EXIF_HEADER);
+        out.writeShort(0x4D4D); // "MM"
+        out.writeShort(42);
+        out.writeInt(8); // IFD0 right after the header
+        out.writeShort(1); // one entry
+        out.writeShort(ORIENTATION_TAG);
+        out.writeShort(3); // SHORT
+        out.writeInt(1); // one value
+        out.writeShort(orientation);
+        out.writeShort(0); // value padding
+        out.writeInt(0); // no next IFD
+    }
+
+    private static void copyPng(DataInputStream in, DataOutputStream out) throws IOException {
+        out.write(in.readNBytes(PNG_SIGNATURE.length));
+        while (true) {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new MalformedImageException("Corrupt PNG: chunk length " + Integer.toUnsignedString(length));
+            }
+            byte[] type = readFully(in, 4);
+            String chunkType = new String(type, StandardCharsets.US_ASCII);
+            if (PNG_METADATA_CHUNKS.contains(chunkType)) {
+                in.skipNBytes(length + 4L); // data + CRC
+                continue;
+            }
+            out.writeInt(length);
+            out.write(type);
+            copyExactly(in, out, length + 4L);
+            if ("IEND".equals(chunkType)) {
+                return;
+            }
+        }
+    }
+
+    private static void copyExactly(InputStream in, OutputStream out, long count) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = count;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new EOFException();
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+}
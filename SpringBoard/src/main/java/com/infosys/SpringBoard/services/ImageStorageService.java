@@ -0,0 +1,512 @@
+package com.infosys.SpringBoard.services;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import com.infosys.SpringBoard.config.AsyncConfig;
+import com.infosys.SpringBoard.entity.ImageBlob;
+import com.infosys.SpringBoard.repository.ImageBlobRepository;
+
+/**
+ * Content-addressed storage for complaint photos in the configured
+ * {@link BlobStore}.
+ * <p>
+ * Each upload is streamed to a temp file under {@code file.upload-dir}
+ * (metadata stripped on the way) while its SHA-256 is computed, then stored
+ * once at {@code blobs/ab/cd/<hash>}.
+ * Complaints reference it as {@code <hash>.<ext>}; the extension only drives
+ * the served content type. References are counted in {@link ImageBlob} via
+ * {@link #retain}/{@link #release}, and unreferenced blobs are removed by
+ * {@link #collectGarbage()} after a grace period.
+ * <p>
+ * Downscaled JPEG variants live under {@code variants/<size>/ab/cd/<hash>.jpg}
+ * and are generated once per blob on the bounded image executor. Names from
+ * before content addressing (flat UUID files) are still served as-is.
+ */
+@Service
+public class ImageStorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageStorageService.class);
+
+    // <64 hex sha-256>[.ext]
+    private static final Pattern BLOB_NAME = Pattern.compile("([0-9a-f]{64})(\\.[a-z0-9]{1,5})?");
+
+    public enum Variant {
+        THUMB, PREVIEW, ORIGINAL;
+
+        public static Variant fromParam(String value) {
+            return Variant.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ClusterSync clusterSync;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${image.thumb.max-px:240}")
+    private int thumbMaxPx;
+
+    @Value("${image.preview.max-px:1280}")
+    private int previewMaxPx;
+
+    @Value("${image.variant.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    @Value("${image.variant.max-megapixels:50}")
+    private long maxMegapixels;
+
+    @Value("${storage.gc.grace-minutes:60}")
+    private long gcGraceMinutes;
+
+    @Value("${storage.gc.batch-size:500}")
+    private int gcBatchSize;
+
+    // --- Ingestion ---
+
+    /**
+     * Stores the upload (or finds the identical blob already stored) and
+     * returns its reference name. Call outside any transaction; the caller
+     * must {@link #retain} the name in the transaction that saves it.
+     */
+    public String store(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("File cannot be null or empty.");
+        }
+
+        Path temp = tempFile();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = file.getInputStream();
+                    OutputStream out = new DigestOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(temp)), digest)) {
+                ImageMetadataStripper.copyWithoutMetadata(in, out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            long size = Files.size(temp);
+
+            // Register (or refresh) the row first so GC can't remove the blob in between
+            boolean created = registerBlob(hash, size);
+
+            String key = blobKey(hash);
+            // A new row means GC may just have removed these bytes: always write them then
+            // Past the cache: another node may have deleted the object since this one looked
+            if (created || blobStore.statUncached(key).isEmpty()) {
+                // Identical bytes, so losing a race with a concurrent upload is harmless
+                blobStore.put(key, temp);
+            }
+            outcome = created ? "stored" : "deduplicated";
+            DistributionSummary.builder("image.store.bytes")
+                    .baseUnit("bytes")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(size);
+            return hash + extensionOf(file.getOriginalFilename());
+        } finally {
+            Files.deleteIfExists(temp);
+            sample.stop(Timer.builder("image.store")
+                    .description("Strip, hash and persist one uploaded image")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /** Adds a complaint reference to a stored image. Must run in the saving transaction. */
+    public void retain(String name) {
+        adjust(name, 1);
+    }
+
+    /** Drops a complaint reference. Must run in the transaction that clears the path. */
+    public void release(String name) {
+        adjust(name, -1);
+    }
+
+    @Async(AsyncConfig.IMAGE_EXECUTOR)
+    public void generateVariants(String name) {
+        try {
+            Optional<StoredImage> original = resolve(name, Variant.ORIGINAL);
+            if (original.isEmpty()) {
+                return;
+            }
+            // Deduplicated blobs already have their variants
+            if (blobStore.stat(variantKey(name, Variant.THUMB)).isPresent()
+                    || blobStore.stat(variantKey(name, Variant.PREVIEW)).isPresent()) {
+                return;
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            byte[] bytes;
+            try (InputStream in = blobStore.open(original.get().key())) {
+                bytes = in.readAllBytes();
+            }
+            BufferedImage source = decodeForVariants(bytes, name);
+            if (source == null) {
+                return;
+            }
+            // Variants carry no metadata, so the kept EXIF Orientation is applied to their pixels
+            int orientation = ImageMetadataStripper.readOrientation(new ByteArrayInputStream(bytes));
+            writeVariant(source, orientation, name, Variant.PREVIEW, previewMaxPx);
+            writeVariant(source, orientation, name, Variant.THUMB, thumbMaxPx);
+            sample.stop(meterRegistry.timer("image.variants"));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Variant generation failed for {}", name, e);
+        }
+    }
+
+    // --- Serving ---
+
+    /**
+     * A stored object ready to be served. {@code variant} is what it is,
+     * which differs from the one asked for when {@link #resolve} fell back to
+     * the original. {@code localFile} is set when the store keeps it on this
+     * node's file system.
+     */
+    public record StoredImage(String key, Variant variant, long size, long lastModified, Path localFile) {
+
+        /** Last key segment: {@code <hash>}, {@code <hash>.jpg} or a legacy file name. */
+        public String fileName() {
+            return key.substring(key.lastIndexOf('/') + 1);
+        }
+    }
+
+    /**
+     * Resolves the object to serve for {@code filename}. Falls back to the
+     * original when the requested variant doesn't exist (yet). Empty when the
+     * name is not a plain file name or the original is missing.
+     */
+    public Optional<StoredImage> resolve(String filename, Variant variant) throws IOException {
+        String original = originalKey(filename);
+        if (original == null) {
+            return Optional.empty();
+        }
+        if (variant != Variant.ORIGINAL) {
+            String candidate = variantKey(filename, variant);
+            Optional<StoredImage> found = lookup(candidate, variant);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return lookup(original, Variant.ORIGINAL);
+    }
+
+    /** Bytes {@code start} to {@code end} (inclusive) of a resolved image. */
+    public InputStream open(StoredImage image, long start, long end) throws IOException {
+        return blobStore.open(image.key(), start, end);
+    }
+
+    // --- Garbage collection ---
+
+    @Scheduled(fixedDelayString = "${storage.gc.interval-ms:3600000}",
+            initialDelayString = "${storage.gc.interval-ms:3600000}")
+    public void collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(gcGraceMinutes);
+        List<String> candidates = imageBlobRepository.findUnreferencedBefore(cutoff, Limit.of(gcBatchSize));
+        int removed = 0;
+        for (String hash : candidates) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteIfUnreferenced(hash, cutoff)))) {
+                    removed++;
+                }
+            } catch (UncheckedIOException e) {
+                log.warn("Could not delete unreferenced blob {}; retrying on the next run", hash, e.getCause());
+            }
+        }
+        if (removed > 0) {
+            log.info("Image GC removed {} unreferenced blobs", removed);
+        }
+    }
+
+    // --- Internals ---
+
+    /**
+     * Deletes the row and then the files in one transaction: an upload of the
+     * same bytes meanwhile waits on the row lock until the files are gone,
+     * then re-creates the row and writes them again. A failed file delete
+     * rolls the row back for the next run.
+     */
+    private boolean deleteIfUnreferenced(String hash, LocalDateTime cutoff) {
+        if (imageBlobRepository.deleteIfUnreferenced(hash, cutoff) == 0) {
+            return false; // re-referenced or touched since the scan
+        }
+        List<String> keys = List.of(variantKey(hash, Variant.THUMB), variantKey(hash, Variant.PREVIEW),
+                blobKey(hash));
+        try {
+            for (String key : keys) {
+                blobStore.delete(key);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        clusterSync.blobsDeleted(keys);
+        return true;
+    }
+
+    /** @return true when this call created the blob row, false when the content was already known */
+    private boolean registerBlob(String hash, long size) {
+        LocalDateTime now = LocalDateTime.now();
+        if (imageBlobRepository.touch(hash, now) > 0) {
+            return false;
+        }
+        try {
+            imageBlobRepository.saveAndFlush(new ImageBlob(hash, size, now));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another request inserted the same hash first
+            imageBlobRepository.touch(hash, now);
+            return false;
+        }
+    }
+
+    private void adjust(String name, int delta) {
+        String hash = hashOf(name);
+        if (hash != null) {
+            imageBlobRepository.adjustRefCount(hash, delta, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Decodes at most {@code image.variant.max-megapixels} of declared size,
+     * subsampled while reading to just above the preview size, so a small
+     * file declaring huge dimensions can't exhaust the heap. Null when the
+     * image has no reader or is too large; the original is served instead.
+     */
+    private BufferedImage decodeForVariants(byte[] bytes, String name) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                log.debug("No ImageIO reader for {}; serving original only", name);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxMegapixels * 1_000_000L) {
+                    log.warn("{} declares {}x{} pixels, above the {} MP limit; serving original only",
+                            name, width, height, maxMegapixels);
+                    return null;
+                }
+                // Every n-th pixel, keeping the long side at or above the preview size
+                int step = Math.max(1, Math.max(width, height) / previewMaxPx);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void writeVariant(BufferedImage source, int orientation, String name, Variant variant, int maxPx)
+            throws IOException {
+        if (Math.max(source.getWidth(), source.getHeight()) <= maxPx) {
+            return; // already small enough; the (stripped) original is served instead
+        }
+        BufferedImage scaled = orient(scaleToFit(source, maxPx), orientation);
+        Path temp = tempFile();
+        try {
+            writeJpeg(scaled, temp);
+            blobStore.put(variantKey(name, variant), temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Downscales (never upscales) in halving steps for decent quality with bilinear filtering. */
+    private static BufferedImage scaleToFit(BufferedImage source, int maxPx) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxPx / Math.max(width, height));
+        int targetW = Math.max(1, (int) Math.round(width * ratio));
+        int targetH = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetW, width / 2);
+            height = Math.max(targetH, height / 2);
+            // JPEG has no alpha: flatten onto white
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = next;
+        } while (width != targetW || height != targetH);
+        return current;
+    }
+
+    /** Turns an image stored with EXIF {@code orientation} (1-8) upright. */
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        // Maps stored pixels to displayed ones; 5-8 swap width and height
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // mirrored
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // upside down
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // mirrored vertically
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // transposed
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // needs 90 degrees clockwise
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // transversed
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // needs 90 degrees counter-clockwise
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage upright = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = upright.createGraphics();
+        g.drawImage(image, transform, null);
+        g.dispose();
+        return upright;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            // No metadata is passed, so variants carry none
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private Optional<StoredImage> lookup(String key, Variant variant) throws IOException {
+        return blobStore.stat(key).map(stat -> new StoredImage(key, variant, stat.size(), stat.lastModified(),
+                stat.localFile()));
+    }
+
+    /** Scratch file on this node, for uploads and variants on their way into the store. */
+    private Path tempFile() throws IOException {
+        Path tmpDir = Paths.get(uploadDir).toAbsolutePath().normalize().resolve("tmp");
+        Files.createDirectories(tmpDir);
+        return tmpDir.resolve(UUID.randomUUID() + ".part");
+    }
+
+    /** Key of the original for a reference name, or null if the name is not a plain file name. */
+    private static String originalKey(String name) {
+        String hash = hashOf(name);
+        if (hash != null) {
+            return blobKey(hash);
+        }
+        // Legacy flat UUID names, stored at the top level
+        boolean plain = name != null && !name.isBlank() && name.indexOf('/') < 0 && name.indexOf('\\') < 0
+                && !name.equals(".") && !name.equals("..");
+        return plain ? name : null;
+    }
+
+    private static String blobKey(String hash) {
+        return shard("blobs/", hash);
+    }
+
+    private static String variantKey(String name, Variant variant) {
+        String base = "variants/" + variant.name().toLowerCase(Locale.ROOT) + "/";
+        String hash = hashOf(name);
+        return hash != null ? shard(base, hash + ".jpg") : base + name + ".jpg";
+    }
+
+    // ab/cd/<name>: at most 65,536 directories (or prefixes), keeping each one small
+    private static String shard(String base, String name) {
+        return base + name.substring(0, 2) + "/" + name.substring(2, 4) + "/" + name;
+    }
+
+    private static String hashOf(String name) {
+        if (name == null) {
+            return null;
+        }
+        Matcher matcher = BLOB_NAME.matcher(name);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String extensionOf(String originalFileName) {
+        if (originalFileName == null) {
+            return "";
+        }
+        int dot = originalFileName.lastIndexOf('.');
+        if (dot == -1) {
+            return "";
+        }
+        String extension = originalFileName.substring(dot).toLowerCase(Locale.ROOT);
+        // Keep only simple extensions so the stored name can't smuggle path characters
+        return extension.matches("\\.[a-z0-9]{1,5}") ? extension : "";
+    }
+}
@@ -0,0 +1,82 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infosys.SpringBoard.entity.NotificationOutbox;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Local stand-in for an email/SMS gateway: each message is logged and
+ * appended as one JSON line to {@code notifications.log.file} (blank = log
+ * only). {@code notifications.log.failure-rate} makes that fraction of sends
+ * fail, to exercise the dispatcher's retries.
+ */
+@Service
+@ConditionalOnProperty(name = "notifications.sender", havingValue = "log", matchIfMissing = true)
+public class LogNotificationSender implements NotificationSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LogNotificationSender.class);
+
+    @Value("${notifications.log.file:}")
+    private String fileName;
+
+    @Value("${notifications.log.failure-rate:0}")
+    private double failureRate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Not synchronized: blocking I/O while holding a monitor pins the virtual thread sending
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private Path file;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (fileName != null && !fileName.isBlank()) {
+            file = Paths.get(fileName).toAbsolutePath().normalize();
+            Files.createDirectories(file.getParent());
+        }
+    }
+
+    @Override
+    public void send(NotificationOutbox.Channel channel, String recipient, String subject, String body)
+            throws IOException {
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IOException("Simulated delivery failure");
+        }
+        log.info("{} to {}: {}", channel, recipient, subject);
+        if (file == null) {
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("at", Instant.now().toString());
+        line.put("channel", channel);
+        line.put("to", recipient);
+        line.put("subject", subject);
+        line.put("body", body);
+        String json = objectMapper.writeValueAsString(line) + "\n";
+        appendLock.lock();
+        try {
+            Files.writeString(file, json, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.infosys.SpringBoard.services;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Per-IP and per-email token buckets for login attempts, checked before
+ * any database or BCrypt work is done.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} updated by CAS using the
+ * generic cell rate algorithm (GCRA), which behaves exactly like a token
+ * bucket. The value stores the "theoretical arrival time": the instant
+ * the bucket would be empty again if no more tokens were taken. There are
+ * no locks and no refill thread. Buckets live in a bounded Caffeine map and
+ * expire once they would have refilled completely, because a full bucket
+ * is the same as a new one.
+ */
+@Service
+public class LoginRateLimiter {
+
+    @Value("${auth.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${auth.rate-limit.ip.per-minute:20}")
+    private int ipPerMinute;
+
+    @Value("${auth.rate-limit.email.capacity:5}")
+    private int emailCapacity;
+
+    @Value("${auth.rate-limit.email.per-minute:5}")
+    private int emailPerMinute;
+
+    @Value("${auth.rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    private Limit ipLimit;
+    private Limit emailLimit;
+
+    @PostConstruct
+    void init() {
+        ipLimit = new Limit(ipCapacity, ipPerMinute, maxKeys);
+        emailLimit = new Limit(emailCapacity, emailPerMinute, maxKeys);
+    }
+
+    /**
+     * Takes one token from the IP's bucket and one from the email's bucket.
+     *
+     * @return 0 if the attempt may proceed, otherwise how many milliseconds
+     *         to wait before retrying
+     */
+    public long tryAcquire(String ip, String email) {
+        long now = System.nanoTime();
+        long wait = ipLimit.tryAcquire(ip == null ? "" : ip, now);
+        if (wait == 0 && email != null) {
+            wait = emailLimit.tryAcquire(email.trim().toLowerCase(Locale.ROOT), now);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(wait + 999_999); // round up
+    }
+
+    private static final class Limit {
+        private final long intervalNanos;   // time to earn one token
+        private final long toleranceNanos;  // burst: (capacity - 1) intervals
+        private final Cache<String, AtomicLong> buckets;
+
+        Limit(int capacity, int perMinute, long maxKeys) {
+            intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+            toleranceNanos = intervalNanos * (Math.max(1, capacity) - 1);
+            buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(Duration.ofNanos(toleranceNanos + intervalNanos))
+                    .build();
+        }
+
+        /** @return 0 when a token was taken, else nanoseconds until one is available */
+        long tryAcquire(String key, long now) {
+            // MIN_VALUE = never used; System.nanoTime() may be negative
+            AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+            while (true) {
+                long current = tat.get();
+                long start = current == Long.MIN_VALUE ? now : Math.max(current, now);
+                long overshoot = start - now - toleranceNanos;
+                if (overshoot > 0) {
+                    return overshoot;
+                }
+                if (tat.compareAndSet(current, start + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
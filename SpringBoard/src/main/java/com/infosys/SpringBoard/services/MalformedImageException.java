@@ -0,0 +1,17 @@
+package com.infosys.SpringBoard.services;
+
+/**
+ * An uploaded JPEG or PNG whose structure can't be parsed (truncated data,
+ * impossible segment lengths). The upload is rejected rather than stored with
+ * its metadata intact.
+ */
+public class MalformedImageException extends IllegalArgumentException {
+
+    public MalformedImageException(String message) {
+        super(message);
+    }
+
+    public MalformedImageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
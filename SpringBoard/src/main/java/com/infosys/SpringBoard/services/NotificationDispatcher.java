@@ -0,0 +1,274 @@
+package com.infosys.SpringBoard.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.infosys.SpringBoard.entity.NotificationOutbox;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.repository.NotificationOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drains the {@link NotificationOutbox} through the configured
+ * {@link NotificationSender}, so requests only ever pay for an INSERT.
+ * <p>
+ * Each round claims up to {@code notifications.batch-size} due rows in a
+ * short transaction (SELECT ... FOR UPDATE SKIP LOCKED, then pushes their
+ * {@code nextAttemptAt} out by {@code notifications.claim-timeout-ms}),
+ * sends them concurrently on virtual threads with no transaction open, and
+ * records the outcomes in a second transaction. A node that dies mid-send
+ * leaves its rows to be claimed again once the lease runs out, so delivery
+ * is at-least-once. Failed sends, and sends still running after
+ * {@code notifications.send-timeout-ms}, are retried with exponential
+ * backoff and jitter, and marked FAILED after
+ * {@code notifications.max-attempts}. Sent and FAILED rows are purged after
+ * {@code notifications.retention-days}.
+ * <p>
+ * The loop runs on its own thread, woken after every committed complaint
+ * change and otherwise every {@code notifications.poll-interval-ms}. Meters:
+ * {@code notifications.sent}, {@code notifications.retries},
+ * {@code notifications.failed} (tagged {@code channel}) and the
+ * {@code notifications.delivery.lag} timer, from enqueue to delivery.
+ */
+@Service
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationSender sender;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Nodes that shouldn't send (and tests) set this to false; rows are still written
+    @Value("${notifications.dispatcher.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notifications.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    @Value("${notifications.claim-timeout-ms:300000}")
+    private long claimTimeoutMillis;
+
+    @Value("${notifications.send-timeout-ms:30000}")
+    private long sendTimeoutMillis;
+
+    @Value("${notifications.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${notifications.backoff.initial-ms:10000}")
+    private long initialBackoffMillis;
+
+    @Value("${notifications.backoff.max-ms:3600000}")
+    private long maxBackoffMillis;
+
+    @Value("${notifications.retention-days:7}")
+    private long retentionDays;
+
+    private final Semaphore wakeup = new Semaphore(0);
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean running;
+    private Thread worker;
+
+    // --- Lifecycle ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Notification dispatcher disabled on this node");
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("notification-dispatcher").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        sendExecutor.shutdown();
+    }
+
+    /** New rows are committed: deliver them now rather than at the next poll. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        if (running && wakeup.availablePermits() == 0) {
+            wakeup.release();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.purge-interval-ms:3600000}",
+            initialDelayString = "${notifications.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int sent = outboxRepository.deleteSentBefore(before);
+        int failed = outboxRepository.deleteFailedBefore(before);
+        if (sent + failed > 0) {
+            log.info("Purged {} delivered and {} failed notifications older than {} days", sent, failed,
+                    retentionDays);
+        }
+    }
+
+    // --- Dispatch ---
+
+    private void run() {
+        while (running) {
+            try {
+                // A full batch means there is probably more: go again straight away
+                if (dispatchBatch() < batchSize) {
+                    wakeup.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                    wakeup.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Notification dispatch failed", e);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /** @return how many notifications were claimed */
+    int dispatchBatch() {
+        List<Claimed> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseEnd = now.plus(Duration.ofMillis(claimTimeoutMillis));
+            List<NotificationOutbox> due = outboxRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            for (NotificationOutbox n : due) {
+                n.setAttempts(n.getAttempts() + 1);
+                n.setNextAttemptAt(leaseEnd);
+            }
+            return due.stream().map(Claimed::of).toList();
+        });
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        // A hung send counts as failed so it can't stall the loop; its virtual thread is left to finish
+        List<CompletableFuture<Outcome>> sends = claimed.stream()
+                .map(c -> CompletableFuture.supplyAsync(() -> send(c), sendExecutor)
+                        .completeOnTimeout(new Outcome(c, new TimeoutException(
+                                "No response within " + sendTimeoutMillis + " ms")), sendTimeoutMillis,
+                                TimeUnit.MILLISECONDS))
+                .toList();
+        List<Outcome> outcomes = sends.stream().map(CompletableFuture::join).toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, NotificationOutbox> rows = outboxRepository
+                    .findAllById(outcomes.stream().map(o -> o.claimed.id).toList()).stream()
+                    .collect(Collectors.toMap(NotificationOutbox::getId, Function.identity()));
+            for (Outcome outcome : outcomes) {
+                NotificationOutbox row = rows.get(outcome.claimed.id);
+                // Our lease ran out and another node claimed the row again: its result wins
+                if (row != null && row.getAttempts() == outcome.claimed.attempts
+                        && row.getStatus() == NotificationOutbox.Status.PENDING) {
+                    record(row, outcome.error, now);
+                }
+            }
+        });
+        return claimed.size();
+    }
+
+    private Outcome send(Claimed c) {
+        try {
+            sender.send(c.channel, c.recipient, c.subject, c.body);
+            return new Outcome(c, null);
+        } catch (Exception e) {
+            return new Outcome(c, e);
+        }
+    }
+
+    private void record(NotificationOutbox row, Exception error, LocalDateTime now) {
+        String channel = row.getChannel().name();
+        if (error == null) {
+            row.setStatus(NotificationOutbox.Status.SENT);
+            row.setSentAt(now);
+            row.setLastError(null);
+            meterRegistry.counter("notifications.sent", "channel", channel).increment();
+            meterRegistry.timer("notifications.delivery.lag", "channel", channel)
+                    .record(Duration.between(row.getCreatedAt(), now));
+            return;
+        }
+        row.setLastError(truncate(error.getClass().getSimpleName() + ": " + error.getMessage()));
+        if (error instanceof IllegalArgumentException || row.getAttempts() >= maxAttempts) {
+            row.setStatus(NotificationOutbox.Status.FAILED);
+            meterRegistry.counter("notifications.failed", "channel", channel).increment();
+            log.warn("Giving up on notification {} to {} after {} attempts: {}", row.getId(), row.getRecipient(),
+                    row.getAttempts(), row.getLastError());
+        } else {
+            row.setNextAttemptAt(now.plus(backoff(row.getAttempts())));
+            meterRegistry.counter("notifications.retries", "channel", channel).increment();
+            log.debug("Notification {} failed (attempt {}), retrying at {}", row.getId(), row.getAttempts(),
+                    row.getNextAttemptAt());
+        }
+    }
+
+    /** initial * 2^(attempts - 1), capped, with "equal jitter" so retries from one outage spread out. */
+    private Duration backoff(int attempts) {
+        long delay = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempts - 1, 30));
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= 1000 ? value : value.substring(0, 1000);
+    }
+
+    /** What a send needs, copied out of the claiming transaction. */
+    private record Claimed(long id, NotificationOutbox.Channel channel, String recipient, String subject,
+            String body, int attempts) {
+
+        static Claimed of(NotificationOutbox n) {
+            return new Claimed(n.getId(), n.getChannel(), n.getRecipient(), n.getSubject(), n.getBody(),
+                    n.getAttempts());
+        }
+    }
+
+    private record Outcome(Claimed claimed, Exception error) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.IOException;
+
+import com.infosys.SpringBoard.entity.NotificationOutbox;
+
+/**
+ * Delivers one email or SMS. Called by {@link NotificationDispatcher}
+ * outside any transaction, possibly from several threads at once.
+ * <p>
+ * Implementations are selected with {@code notifications.sender}; the
+ * default {@link LogNotificationSender} only records what would be sent.
+ * An {@link IOException} (or any other runtime failure) is retried with
+ * backoff; an {@link IllegalArgumentException} means the message can never
+ * be delivered (e.g. a malformed address) and it is not retried.
+ */
+public interface NotificationSender {
+
+    void send(NotificationOutbox.Channel channel, String recipient, String subject, String body) throws IOException;
+}
@@ -0,0 +1,116 @@
+package com.infosys.SpringBoard.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.NotificationOutbox;
+import com.infosys.SpringBoard.entity.NotificationOutbox.Channel;
+import com.infosys.SpringBoard.entity.Worker;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.NotificationOutboxRepository;
+
+/**
+ * Decides who is told what about a complaint and writes it to the
+ * {@link NotificationOutbox}, inside the transaction of the change itself:
+ * a rolled-back change sends nothing and a committed one cannot lose its
+ * notifications. Nothing is delivered here; {@link NotificationDispatcher}
+ * does that after commit, off the request thread.
+ * <p>
+ * Citizens get an email when their complaint is received and whenever its
+ * status changes; workers get an email and an SMS when they are assigned.
+ * Imported complaints are not announced.
+ */
+@Service
+public class NotificationService {
+
+    private static final int SMS_LENGTH = 160;
+    private static final int BODY_LENGTH = 2000;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    /** Confirmation to the citizen who raised the complaint. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complaintReceived(Complains complaint) {
+        if (isBlank(complaint.getUserEmail())) {
+            return;
+        }
+        String body = String.format("Hello %s,%n%nWe have received your complaint \"%s\" (%s, %s) "
+                + "and will forward it to the responsible department.%n%nCivicPulse",
+                complaint.getFirstName(), complaint.getTitle(), complaint.getLocation(), complaint.getCity());
+        outboxRepository.save(new NotificationOutbox(Channel.EMAIL, complaint.getUserEmail(),
+                "Complaint #" + complaint.getComplainId() + " received", truncate(body, BODY_LENGTH),
+                complaint.getComplainId(), LocalDateTime.now()));
+    }
+
+    /** Email and SMS to each worker newly put on the complaint. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void workersAssigned(Complains complaint, Collection<Worker> workers) {
+        LocalDateTime now = LocalDateTime.now();
+        String deadline = complaint.getDeadlineDate() == null ? "not set" : complaint.getDeadlineDate().toString();
+        List<NotificationOutbox> messages = new ArrayList<>();
+        for (Worker worker : workers) {
+            if (!isBlank(worker.getEmail())) {
+                String body = String.format("Hello %s,%n%nYou have been assigned complaint #%d: \"%s\"%n"
+                        + "Category: %s%nLocation: %s, %s%nDeadline: %s%n%n%s%n%nCivicPulse",
+                        worker.getName(), complaint.getComplainId(), complaint.getTitle(), complaint.getCategory(),
+                        complaint.getLocation(), complaint.getCity(), deadline, complaint.getDescription());
+                messages.add(new NotificationOutbox(Channel.EMAIL, worker.getEmail(),
+                        "New assignment: complaint #" + complaint.getComplainId(), truncate(body, BODY_LENGTH),
+                        complaint.getComplainId(), now));
+            }
+            if (!isBlank(worker.getPhone())) {
+                String text = String.format("CivicPulse: complaint #%d assigned to you - %s, %s, %s. Due %s.",
+                        complaint.getComplainId(), complaint.getTitle(), complaint.getLocation(),
+                        complaint.getCity(), deadline);
+                messages.add(new NotificationOutbox(Channel.SMS, worker.getPhone(), null,
+                        truncate(text, SMS_LENGTH), complaint.getComplainId(), now));
+            }
+        }
+        // Pooled ids: one batched INSERT
+        outboxRepository.saveAll(messages);
+    }
+
+    /** Status changes, from whichever service made them. */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot before = event.getBefore();
+        ComplaintSnapshot after = event.getAfter();
+        // The node that made the change has already queued the email
+        if (event.isRemote() || before == null || after == null || before.getStatus() == after.getStatus()
+                || isBlank(after.getUserEmail())) {
+            return;
+        }
+        StringBuilder body = new StringBuilder(String.format("Your complaint \"%s\" is now %s.",
+                after.getTitle(), after.getStatus()));
+        if (after.getDepartmentName() != null) {
+            body.append(String.format("%nDepartment: %s", after.getDepartmentName()));
+        }
+        if (!isBlank(after.getMessage())) {
+            body.append(String.format("%n%n%s", after.getMessage()));
+        }
+        body.append(String.format("%n%nCivicPulse"));
+        outboxRepository.save(new NotificationOutbox(Channel.EMAIL, after.getUserEmail(),
+                "Complaint #" + event.getComplainId() + " is now " + after.getStatus(),
+                truncate(body.toString(), BODY_LENGTH), event.getComplainId(), LocalDateTime.now()));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() <= length ? value : value.substring(0, length - 3) + "...";
+    }
+}
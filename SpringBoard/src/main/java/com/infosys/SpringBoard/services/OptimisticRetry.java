@@ -0,0 +1,85 @@
+package com.infosys.SpringBoard.services;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs a read-modify-write of complaints in its own transaction, and runs it
+ * again on fresh state when a concurrent writer committed first (the
+ * {@code @Version} check failed). Each attempt re-reads the rows, so the
+ * change is re-applied on top of the other writer's instead of replacing
+ * it, and change events carry a correct before-snapshot.
+ * <p>
+ * Gives up after {@code complaints.update.max-attempts} and rethrows the
+ * {@link OptimisticLockingFailureException}; controllers answer 409. Called
+ * inside an existing transaction it just joins it, since a retry there
+ * would see the same stale state; the conflict surfaces at the caller's
+ * commit. Meter: {@code complaints.update.conflicts}, tagged
+ * {@code operation} and {@code outcome=retried|gave_up}.
+ */
+@Service
+public class OptimisticRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    public static final String CONFLICT_MESSAGE =
+            "The complaint was changed by someone else at the same time. Please reload and try again.";
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${complaints.update.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${complaints.update.backoff-ms:20}")
+    private long backoffMillis;
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("complaints.update.conflicts", "operation", operation,
+                            "outcome", "gave_up").increment();
+                    log.warn("{}: still conflicting after {} attempts", operation, attempt);
+                    throw e;
+                }
+                meterRegistry.counter("complaints.update.conflicts", "operation", operation,
+                        "outcome", "retried").increment();
+                log.debug("{}: concurrent update, retrying (attempt {})", operation, attempt);
+                pause(operation, attempt);
+            }
+        }
+    }
+
+    /** Random delay growing with the attempt, so two colliding writers don't collide again. */
+    private void pause(String operation, int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMillis * attempt) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying " + operation, e);
+        }
+    }
+}
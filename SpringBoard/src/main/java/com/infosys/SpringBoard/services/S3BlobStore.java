@@ -0,0 +1,257 @@
+package com.infosys.SpringBoard.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * {@link BlobStore} on an S3-compatible object store (AWS S3, MinIO, Ceph
+ * RGW, ...), spoken to directly over HTTP with SigV4-signed path-style
+ * requests ({@code <endpoint>/<bucket>/<prefix><key>}), so no vendor SDK is
+ * needed. The bucket must exist.
+ * <p>
+ * Objects are never modified in place, so successful lookups are cached
+ * ({@code storage.s3.stat-cache-size}) and a served image costs one GET
+ * instead of a HEAD and a GET. Deletes on other nodes reach the cache
+ * through {@link ClusterSync}. Meter: {@code storage.s3.requests}, tagged
+ * {@code method} and {@code status}.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    private static final Logger log = LoggerFactory.getLogger(S3BlobStore.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${storage.s3.endpoint}")
+    private String endpoint;
+
+    @Value("${storage.s3.region:us-east-1}")
+    private String region;
+
+    @Value("${storage.s3.bucket}")
+    private String bucket;
+
+    @Value("${storage.s3.access-key:}")
+    private String accessKey;
+
+    @Value("${storage.s3.secret-key:}")
+    private String secretKey;
+
+    @Value("${storage.s3.prefix:}")
+    private String prefix;
+
+    @Value("${storage.s3.timeout-ms:30000}")
+    private long timeoutMillis;
+
+    @Value("${storage.s3.stat-cache-size:10000}")
+    private long statCacheSize;
+
+    private String baseUrl;
+    private String host;
+    private S3RequestSigner signer;
+    private HttpClient httpClient;
+    private Cache<String, Stat> stats;
+
+    @PostConstruct
+    void init() {
+        if (accessKey.isBlank() || secretKey.isBlank()) {
+            throw new IllegalStateException("storage.s3.access-key and storage.s3.secret-key must be set.");
+        }
+        URI uri = URI.create(endpoint);
+        baseUrl = uri.getScheme() + "://" + uri.getRawAuthority();
+        host = uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+        signer = new S3RequestSigner(accessKey, secretKey, region);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(timeoutMillis))
+                .build();
+        stats = Caffeine.newBuilder().maximumSize(statCacheSize).build();
+        log.info("Storing images in bucket {} at {}", bucket, baseUrl);
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        HttpRequest request = request("PUT", key, sha256Hex(source), null)
+                .PUT(HttpRequest.BodyPublishers.ofFile(source))
+                .build();
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString());
+        stats.invalidate(key);
+        if (response.statusCode() / 100 != 2) {
+            throw failure(request, response.statusCode(), response.body());
+        }
+    }
+
+    @Override
+    public Optional<Stat> stat(String key) throws IOException {
+        Stat cached = stats.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        HttpRequest request = request("HEAD", key, S3RequestSigner.EMPTY_PAYLOAD_SHA256, null)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return Optional.empty(); // not cached: a variant may appear later
+        }
+        if (response.statusCode() != 200) {
+            throw failure(request, response.statusCode(), "");
+        }
+        long size = response.headers().firstValueAsLong("Content-Length")
+                .orElseThrow(() -> new IOException("No Content-Length for " + key));
+        long lastModified = response.headers().firstValue("Last-Modified")
+                .map(value -> ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME))
+                .map(time -> time.toInstant().toEpochMilli())
+                .orElse(0L);
+        Stat stat = new Stat(size, lastModified, null);
+        stats.put(key, stat);
+        return Optional.of(stat);
+    }
+
+    @Override
+    public Optional<Stat> statUncached(String key) throws IOException {
+        stats.invalidate(key);
+        return stat(key);
+    }
+
+    @Override
+    public void forget(String key) {
+        stats.invalidate(key);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return get(key, null, 0);
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) throws IOException {
+        return get(key, "bytes=" + start + "-" + end, start);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        HttpRequest request = request("DELETE", key, S3RequestSigner.EMPTY_PAYLOAD_SHA256, null)
+                .DELETE()
+                .build();
+        HttpResponse<String> response = send(request, HttpResponse.BodyHandlers.ofString());
+        stats.invalidate(key);
+        if (response.statusCode() != 204 && response.statusCode() != 200 && response.statusCode() != 404) {
+            throw failure(request, response.statusCode(), response.body());
+        }
+    }
+
+    // --- Internals ---
+
+    private InputStream get(String key, String range, long start) throws IOException {
+        HttpRequest request = request("GET", key, S3RequestSigner.EMPTY_PAYLOAD_SHA256, range).GET().build();
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+        int status = response.statusCode();
+        if (status == 206) {
+            return response.body();
+        }
+        if (status == 200) {
+            // A store that ignores Range sends everything; callers stop reading at the end
+            InputStream body = response.body();
+            body.skipNBytes(start);
+            return body;
+        }
+        String body;
+        try (InputStream in = response.body()) {
+            body = new String(in.readNBytes(1000), StandardCharsets.UTF_8);
+        }
+        if (status == 404) {
+            stats.invalidate(key);
+            throw new NoSuchFileException(key);
+        }
+        throw failure(request, status, body);
+    }
+
+    /** A signed request builder; the caller sets the method and body. */
+    private HttpRequest.Builder request(String method, String key, String payloadSha256, String range) {
+        String canonicalUri = "/" + S3RequestSigner.uriEncode(bucket, false) + "/"
+                + S3RequestSigner.uriEncode(prefix + key, true);
+        SortedMap<String, String> headers = new TreeMap<>();
+        headers.put("host", host);
+        headers.put("x-amz-content-sha256", payloadSha256);
+        if (range != null) {
+            headers.put("range", range);
+        }
+        String authorization = signer.sign(method, canonicalUri, "", headers, payloadSha256, Instant.now());
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + canonicalUri))
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .header("Authorization", authorization);
+        // HttpClient sets Host itself, from the same URI
+        headers.forEach((name, value) -> {
+            if (!name.equals("host")) {
+                builder.header(name, value);
+            }
+        });
+        return builder;
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "error";
+        try {
+            HttpResponse<T> response = httpClient.send(request, handler);
+            status = Integer.toString(response.statusCode());
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted during " + request.method() + " " + request.uri());
+        } finally {
+            sample.stop(meterRegistry.timer("storage.s3.requests", "method", request.method(), "status", status));
+        }
+    }
+
+    private static IOException failure(HttpRequest request, int status, String body) {
+        return new IOException(request.method() + " " + request.uri() + " failed with HTTP " + status
+                + (body == null || body.isBlank() ? "" : ": " + body.strip()));
+    }
+
+    private static String sha256Hex(Path file) throws IOException {
+        MessageDigest digest = S3RequestSigner.sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,301 @@
+package com.infosys.SpringBoard.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.infosys.SpringBoard.dto.SlaDeadlineRow;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSlaEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Watches the deadlines of open, assigned complaints and publishes a
+ * {@link ComplaintSlaEvent} when one is near ({@code sla.warning-hours}
+ * before) and when it has passed. A complaint is due at the end of its
+ * deadline day in {@code sla.zone}.
+ * <p>
+ * Alarms sit in a {@link DelayQueue}, ordered by due time; one thread
+ * sleeps until the earliest is due, so nothing polls the table and the cost
+ * per change is O(log n). When a deadline changes or a complaint is
+ * resolved its old alarms are not searched for and removed: they no longer
+ * match the tracked entry and are skipped when they come due, or purged by
+ * the periodic reconcile against the database. Complaints changed while a
+ * reconcile reads the table keep the state their events gave them, since
+ * the rows it read may predate the change.
+ * <p>
+ * Deadlines that had already passed when the monitor was seeded count as
+ * overdue but are not announced again. Per-department metrics:
+ * {@code sla.warnings}, {@code sla.breaches}, {@code sla.resolved} (tagged
+ * {@code outcome=on_time|late}) and the {@code sla.overdue} gauge.
+ */
+@Service
+public class SlaMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaMonitor.class);
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sla.warning-hours:24}")
+    private long warningHours;
+
+    // Blank = the server's time zone
+    @Value("${sla.zone:}")
+    private String zoneName;
+
+    private ZoneId zone;
+    private Duration warning;
+
+    private final DelayQueue<Alarm> alarms = new DelayQueue<>();
+    // Written only under the monitor lock; read lock-free by the gauges
+    private final Map<Long, Tracked> tracked = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> overdueByDepartment = new ConcurrentHashMap<>();
+    // Ids changed by events while reload() streams rows; null when no reload runs. Guarded by the monitor lock
+    private Set<Long> changedDuringReload;
+    private Thread worker;
+
+    @PostConstruct
+    void init() {
+        zone = zoneName == null || zoneName.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zoneName);
+        warning = Duration.ofHours(warningHours);
+        meterRegistry.gaugeMapSize("sla.tracked", Tags.empty(), tracked);
+    }
+
+    // --- Lifecycle ---
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seed() {
+        reload();
+        log.info("SLA monitor seeded with {} open deadlines", tracked.size());
+        worker = Thread.ofPlatform().name("sla-monitor").daemon().start(this::run);
+    }
+
+    @Scheduled(fixedDelayString = "${sla.reconcile-interval-ms:900000}",
+            initialDelayString = "${sla.reconcile-interval-ms:900000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        reload();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot before = event.getBefore();
+        ComplaintSnapshot after = event.getAfter();
+        if (after != null && after.getStatus() == Complains.Status.RESOLVED
+                && before != null && before.getStatus() != Complains.Status.RESOLVED
+                && before.getDeadlineDate() != null && before.getDepartmentName() != null) {
+            boolean late = !Instant.now().isBefore(dueAt(before.getDeadlineDate()));
+            meterRegistry.counter("sla.resolved", "department", before.getDepartmentName(),
+                    "outcome", late ? "late" : "on_time").increment();
+        }
+
+        if (after == null || after.getStatus() == Complains.Status.RESOLVED
+                || after.getDeadlineDate() == null || after.getDepartmentId() == null) {
+            untrack(event.getComplainId());
+        } else {
+            track(new Tracked(event.getComplainId(), event.getUserId(), after.getDepartmentId(),
+                    after.getDepartmentName(), after.getDeadlineDate()), true);
+        }
+        if (changedDuringReload != null) {
+            changedDuringReload.add(event.getComplainId());
+        }
+    }
+
+    // --- Reads ---
+
+    public int size() {
+        return tracked.size();
+    }
+
+    // --- Internals ---
+
+    private void reload() {
+        synchronized (this) {
+            changedDuringReload = new HashSet<>();
+        }
+        Map<Long, Tracked> fresh = new HashMap<>();
+        try (Stream<SlaDeadlineRow> rows = complainRepository.streamOpenWithDeadline()) {
+            rows.forEach(r -> fresh.put(r.getComplainId(), new Tracked(r.getComplainId(), r.getUserId(),
+                    r.getDepartmentId(), r.getDepartmentName(), r.getDeadlineDate())));
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringReload = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            // Events seen during the read are newer than its rows; unchanged entries keep their pending alarms
+            Set<Long> changed = changedDuringReload;
+            changedDuringReload = null;
+            new ArrayList<>(tracked.keySet()).stream()
+                    .filter(id -> !fresh.containsKey(id) && !changed.contains(id))
+                    .forEach(this::untrack);
+            fresh.values().stream()
+                    .filter(t -> !changed.contains(t.complainId))
+                    .forEach(t -> track(t, false));
+            alarms.removeIf(a -> tracked.get(a.entry.complainId) != a.entry);
+        }
+    }
+
+    /**
+     * Starts (or restarts, if the deadline or department changed) watching a
+     * complaint. Alarms already due fire immediately when {@code announce}
+     * is set, and are otherwise only counted.
+     */
+    private synchronized void track(Tracked entry, boolean announce) {
+        Tracked previous = tracked.get(entry.complainId);
+        if (previous != null && previous.sameDeadline(entry)) {
+            return;
+        }
+        untrack(entry.complainId);
+        tracked.put(entry.complainId, entry);
+
+        Instant now = Instant.now();
+        Instant due = dueAt(entry.deadlineDate);
+        Instant warnAt = due.minus(warning);
+        if (now.isBefore(warnAt) || announce) {
+            alarms.add(new Alarm(entry, ComplaintSlaEvent.Kind.NEAR_BREACH, warnAt.toEpochMilli()));
+        }
+        if (now.isBefore(due) || announce) {
+            alarms.add(new Alarm(entry, ComplaintSlaEvent.Kind.BREACH, due.toEpochMilli()));
+        } else {
+            markOverdue(entry);
+        }
+    }
+
+    private synchronized void untrack(long complainId) {
+        Tracked previous = tracked.remove(complainId);
+        if (previous != null && previous.overdue) {
+            overdue(previous.departmentName).decrementAndGet();
+        }
+    }
+
+    private void markOverdue(Tracked entry) {
+        entry.overdue = true;
+        overdue(entry.departmentName).incrementAndGet();
+    }
+
+    private AtomicInteger overdue(String departmentName) {
+        return overdueByDepartment.computeIfAbsent(departmentName, name ->
+                meterRegistry.gauge("sla.overdue", Tags.of("department", name), new AtomicInteger()));
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                fire(alarms.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("SLA alarm handling failed", e);
+            }
+        }
+    }
+
+    private void fire(Alarm alarm) {
+        Tracked entry = alarm.entry;
+        synchronized (this) {
+            if (tracked.get(entry.complainId) != entry) {
+                return; // resolved, re-assigned or re-seeded since the alarm was set
+            }
+            if (alarm.kind == ComplaintSlaEvent.Kind.BREACH) {
+                markOverdue(entry);
+            }
+        }
+        if (alarm.kind == ComplaintSlaEvent.Kind.BREACH) {
+            meterRegistry.counter("sla.breaches", "department", entry.departmentName).increment();
+            log.info("Complaint {} breached its {} deadline ({})", entry.complainId, entry.deadlineDate,
+                    entry.departmentName);
+        } else {
+            meterRegistry.counter("sla.warnings", "department", entry.departmentName).increment();
+        }
+        eventPublisher.publishEvent(new ComplaintSlaEvent(entry.complainId, entry.userId, entry.departmentId,
+                entry.departmentName, entry.deadlineDate, alarm.kind));
+    }
+
+    private Instant dueAt(LocalDate deadlineDate) {
+        // Due at the end of the deadline day
+        return deadlineDate.plusDays(1).atStartOfDay(zone).toInstant();
+    }
+
+    private static final class Tracked {
+        final long complainId;
+        final long userId;
+        final Long departmentId;
+        final String departmentName;
+        final LocalDate deadlineDate;
+        boolean overdue; // guarded by the monitor lock
+
+        Tracked(long complainId, long userId, Long departmentId, String departmentName, LocalDate deadlineDate) {
+            this.complainId = complainId;
+            this.userId = userId;
+            this.departmentId = departmentId;
+            this.departmentName = departmentName;
+            this.deadlineDate = deadlineDate;
+        }
+
+        boolean sameDeadline(Tracked other) {
+            return deadlineDate.equals(other.deadlineDate) && departmentId.equals(other.departmentId);
+        }
+    }
+
+    private record Alarm(Tracked entry, ComplaintSlaEvent.Kind kind, long atEpochMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(atEpochMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(atEpochMillis, ((Alarm) other).atEpochMillis);
+        }
+    }
+}
@@ -1,21 +1,49 @@
 package com.infosys.SpringBoard.services;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.infosys.SpringBoard.config.AsyncConfig;
 import com.infosys.SpringBoard.entity.User;
 import com.infosys.SpringBoard.repository.UserRepo;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
 @Service
 public class UserService {
-    
+
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     @Autowired
     private UserRepo userRepo;
 
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier(AsyncConfig.PASSWORD_EXECUTOR)
+    private ThreadPoolTaskExecutor passwordExecutor;
+
+    // Verified against when the email is unknown, so both cases cost one BCrypt check
+    private String unknownUserHash;
+
+    @PostConstruct
+    void init() {
+        unknownUserHash = passwordEncoder.encode("unknown-user-placeholder");
+    }
 
     public User registerUser(User user) {
         //hashing the password before saving
@@ -23,16 +51,44 @@ public class UserService {
         return userRepo.save(user);
     }
 
-    public boolean loginUser(String email, String password) {
-        Optional<User> userOptional = userRepo.findByEmail(email);
+    /**
+     * Looks the user up once on the calling thread, then verifies the
+     * password on the bounded password executor. A hash made with a lower
+     * BCrypt strength than configured is replaced after a successful match.
+     *
+     * @return the user when the password matches, empty otherwise
+     * @throws TaskRejectedException when the verification queue is full
+     */
+    public CompletableFuture<Optional<User>> authenticate(String email, String password) {
+        Optional<User> userOptional = email == null ? Optional.empty() : userRepo.findByEmail(email);
+        String hash = userOptional.map(User::getPassword).orElse(unknownUserHash);
 
-        if(userOptional.isPresent()) {
+        return CompletableFuture.supplyAsync(() -> {
+            // BCrypt is deliberately slow; timed separately from the lookup
+            boolean matches = password != null && meterRegistry.timer("auth.password.verify", "role", "user")
+                    .record(() -> passwordEncoder.matches(password, hash));
+            if (!matches || userOptional.isEmpty()) {
+                return Optional.<User>empty();
+            }
             User user = userOptional.get();
+            if (passwordEncoder.upgradeEncoding(hash)) {
+                rehash(user, password);
+            }
+            return Optional.of(user);
+        }, passwordExecutor);
+    }
 
-            return passwordEncoder.matches(password, user.getPassword());
+    private void rehash(User user, String password) {
+        String newHash = passwordEncoder.encode(password);
+        try {
+            if (userRepo.replacePasswordHash(user.getId(), user.getPassword(), newHash) == 1) {
+                user.setPassword(newHash);
+                meterRegistry.counter("auth.password.rehash", "role", "user").increment();
+            }
+        } catch (RuntimeException e) {
+            // The old hash still works; try again at the next login
+            log.warn("Could not upgrade password hash for user {}: {}", user.getId(), e.getMessage());
         }
-
-        return false;
     }
 
     public Optional<User> findById(Long id) {
@@ -3,8 +3,12 @@ package com.infosys.SpringBoard.services;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import com.infosys.SpringBoard.config.CacheConfig;
+import com.infosys.SpringBoard.dto.WorkerSummaryDTO;
 import com.infosys.SpringBoard.entity.Worker;
 import com.infosys.SpringBoard.repository.DepartmentRepo;
 import com.infosys.SpringBoard.repository.WorkerRepository;
@@ -18,15 +22,25 @@ public class WorkerService {
     @Autowired
     private DepartmentRepo departmentRepository;
 
+    @Autowired
+    private ClusterSync clusterSync;
+
+    @CacheEvict(cacheNames = CacheConfig.WORKERS_BY_DEPARTMENT, key = "#departmentId")
     public Worker addWorker(Long departmentId, Worker worker) {
-        return departmentRepository.findById(departmentId).map(department -> {
+        Worker saved = departmentRepository.findById(departmentId).map(department -> {
             worker.setDepartment(department);
             return workerRepository.save(worker);
         }).orElseThrow(() -> new RuntimeException("Department not found with id " + departmentId));
+        // Other nodes clear the whole cache; workers are added rarely
+        clusterSync.cacheEvicted(CacheConfig.WORKERS_BY_DEPARTMENT);
+        return saved;
     }
 
-    public List<Worker> getWorkersByDepartmentId(Long departmentId) {
-        return workerRepository.findByDepartmentId(departmentId);
+    // Cached as plain rows, like departments: a detached Worker carries a lazy
+    // department proxy that can't be served safely from a cache.
+    @Cacheable(cacheNames = CacheConfig.WORKERS_BY_DEPARTMENT, key = "#departmentId")
+    public List<WorkerSummaryDTO> getWorkersByDepartmentId(Long departmentId) {
+        return workerRepository.findSummariesByDepartmentId(departmentId);
     }
     
     public List<Worker> getAllWorkers() {
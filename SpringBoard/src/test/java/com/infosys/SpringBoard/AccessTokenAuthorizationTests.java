@@ -0,0 +1,143 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.services.AccessTokenService;
+import com.infosys.SpringBoard.services.AccessTokenService.Role;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Access tokens against in-memory H2: missing, forged and wrong-role tokens
+ * are rejected before any SQL runs, and complaints are only read and changed
+ * by their own department, and rated by their citizen.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:accesstoken;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/accesstoken-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AccessTokenAuthorizationTests {
+
+    private static final long USER_ID = 42;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    private long departmentId;
+    private long complaintId;
+
+    @BeforeAll
+    void seed() {
+        Department department = departmentRepository.save(new Department("Roads", "roads@city.gov", "secret"));
+        departmentId = department.getId();
+
+        Complains complaint = new Complains();
+        complaint.setUserId(USER_ID);
+        complaint.setTitle("Pothole");
+        complaint.setCategory("Roads");
+        complaint.setCity("Pune");
+        complaint.setLocation("Ward 3");
+        complaint.setDepartment(department);
+        complaint.setCreatedAt(LocalDateTime.now());
+        complaintId = complainRepository.save(complaint).getComplainId();
+    }
+
+    Stream<Arguments> rejectedRequests() {
+        return Stream.of(
+                Arguments.of("/api/admin/complaints", null, 401),
+                Arguments.of("/api/admin/complaints", "not.a.token", 401),
+                Arguments.of("/api/admin/complaints", accessTokenService.issue(USER_ID, Role.USER), 403),
+                Arguments.of("/actuator/caches", null, 401),
+                Arguments.of("/actuator/metrics", accessTokenService.issue(departmentId, Role.DEPARTMENT), 403),
+                Arguments.of("/api/users/complaints/history/" + (USER_ID + 1),
+                        accessTokenService.issue(USER_ID, Role.USER), 403),
+                Arguments.of("/api/dept-manager/" + departmentId + "/complaints",
+                        accessTokenService.issue(departmentId + 1, Role.DEPARTMENT), 403),
+                Arguments.of("/api/dept-manager/complaints/" + complaintId + "/workers",
+                        accessTokenService.issue(USER_ID, Role.USER), 403));
+    }
+
+    @ParameterizedTest(name = "{0} with {1} -> {2}")
+    @MethodSource("rejectedRequests")
+    void unauthorizedRequestsAreRejectedWithoutStatements(String path, String token, int expectedStatus)
+            throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(token == null ? get(path) : get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().is(expectedStatus));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void complaintsAreOnlyReadAndChangedByTheirDepartmentAndCitizen() throws Exception {
+        String otherDepartment = "Bearer " + accessTokenService.issue(departmentId + 1, Role.DEPARTMENT);
+        String otherCitizen = "Bearer " + accessTokenService.issue(USER_ID + 1, Role.USER);
+
+        mockMvc.perform(get("/api/dept-manager/complaints/" + complaintId + "/workers")
+                .header(HttpHeaders.AUTHORIZATION, otherDepartment))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/dept-manager/complaints/" + complaintId + "/status")
+                .header(HttpHeaders.AUTHORIZATION, otherDepartment)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"RESOLVED\",\"message\":\"closed\"}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/users/complaints/" + complaintId + "/feedback")
+                .header(HttpHeaders.AUTHORIZATION, otherCitizen)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\":1,\"feedbackMessage\":\"not mine\"}"))
+                .andExpect(status().isForbidden());
+
+        Complains complaint = complainRepository.findById(complaintId).orElseThrow();
+        assertThat(complaint.getStatus()).isNotEqualTo(Complains.Status.RESOLVED);
+        assertThat(complaint.getRating()).isZero();
+    }
+}
@@ -0,0 +1,132 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.infosys.SpringBoard.dto.BulkComplaintUpdateRequest;
+import com.infosys.SpringBoard.dto.BulkUpdateResultDTO;
+import com.infosys.SpringBoard.dto.BulkUpdateResultDTO.Outcome;
+import com.infosys.SpringBoard.dto.ComplaintFilterDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.services.AdminService;
+
+/**
+ * Bulk triage: an outcome per requested complaint in request order,
+ * duplicates collapsed, and requests over {@link AdminService#MAX_BULK_SIZE}
+ * complaints rejected before anything changes.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkupdate;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/bulkupdate-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false"
+})
+class ComplaintBulkUpdateTests {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @BeforeEach
+    void clean() {
+        complainRepository.deleteAll();
+    }
+
+    @Test
+    void eachRequestedComplaintGetsAnOutcome() {
+        long pending = complainRepository.save(complaint("Pune", Complains.Status.PENDING)).getComplainId();
+        long resolved = complainRepository.save(complaint("Pune", Complains.Status.RESOLVED)).getComplainId();
+        long missing = resolved + 1000;
+
+        BulkComplaintUpdateRequest request = new BulkComplaintUpdateRequest();
+        request.setIds(List.of(pending, resolved, missing, pending));
+        request.setStatus("resolved");
+        BulkUpdateResultDTO result = adminService.bulkUpdate(request);
+
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getResults()).containsExactly(
+                new BulkUpdateResultDTO.Item(pending, Outcome.UPDATED),
+                new BulkUpdateResultDTO.Item(resolved, Outcome.UNCHANGED),
+                new BulkUpdateResultDTO.Item(missing, Outcome.NOT_FOUND));
+        assertThat(complainRepository.findById(pending).orElseThrow().getStatus())
+                .isEqualTo(Complains.Status.RESOLVED);
+    }
+
+    @Test
+    void filterTargetsOnlyMatchingComplaints() {
+        long pune = complainRepository.save(complaint("Pune", Complains.Status.PENDING)).getComplainId();
+        long mumbai = complainRepository.save(complaint("Mumbai", Complains.Status.PENDING)).getComplainId();
+
+        BulkComplaintUpdateRequest request = new BulkComplaintUpdateRequest();
+        request.setFilter(new ComplaintFilterDTO(null, "Pune", null, null, null, null));
+        request.setStatus("IN_PROGRESS");
+        BulkUpdateResultDTO result = adminService.bulkUpdate(request);
+
+        assertThat(result.getResults()).containsExactly(new BulkUpdateResultDTO.Item(pune, Outcome.UPDATED));
+        assertThat(complainRepository.findById(mumbai).orElseThrow().getStatus())
+                .isEqualTo(Complains.Status.PENDING);
+    }
+
+    @Test
+    void moreIdsThanTheCapAreRejected() {
+        long id = complainRepository.save(complaint("Pune", Complains.Status.PENDING)).getComplainId();
+
+        BulkComplaintUpdateRequest atCap = new BulkComplaintUpdateRequest();
+        atCap.setIds(LongStream.range(id, id + AdminService.MAX_BULK_SIZE).boxed().toList());
+        atCap.setStatus("IN_PROGRESS");
+        assertThat(adminService.bulkUpdate(atCap).getRequested()).isEqualTo(AdminService.MAX_BULK_SIZE);
+
+        BulkComplaintUpdateRequest overCap = new BulkComplaintUpdateRequest();
+        overCap.setIds(LongStream.rangeClosed(id, id + AdminService.MAX_BULK_SIZE).boxed().toList());
+        overCap.setStatus("RESOLVED");
+        assertThatThrownBy(() -> adminService.bulkUpdate(overCap)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(complainRepository.findById(id).orElseThrow().getStatus())
+                .isEqualTo(Complains.Status.IN_PROGRESS);
+    }
+
+    @Test
+    void filterMatchingMoreThanTheCapIsRejected() {
+        List<Complains> complaints = new ArrayList<>();
+        for (int i = 0; i <= AdminService.MAX_BULK_SIZE; i++) {
+            complaints.add(complaint("Pune", Complains.Status.PENDING));
+        }
+        complainRepository.saveAll(complaints);
+
+        BulkComplaintUpdateRequest request = new BulkComplaintUpdateRequest();
+        request.setFilter(new ComplaintFilterDTO(null, "Pune", null, null, null, null));
+        request.setStatus("RESOLVED");
+
+        assertThatThrownBy(() -> adminService.bulkUpdate(request)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(complainRepository.findAll()).allMatch(c -> c.getStatus() == Complains.Status.PENDING);
+    }
+
+    private static Complains complaint(String city, Complains.Status status) {
+        Complains complaint = new Complains();
+        complaint.setUserId(7L);
+        complaint.setTitle("Pothole");
+        complaint.setCategory("Roads");
+        complaint.setCity(city);
+        complaint.setStatus(status);
+        complaint.setCreatedAt(LocalDateTime.now());
+        return complaint;
+    }
+}
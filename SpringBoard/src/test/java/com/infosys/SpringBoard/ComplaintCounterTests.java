@@ -0,0 +1,178 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.infosys.SpringBoard.dto.DepartmentComplaintCountDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.entity.User;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.repository.UserRepo;
+import com.infosys.SpringBoard.services.AdminService;
+import com.infosys.SpringBoard.services.ComplainService;
+import com.infosys.SpringBoard.services.ComplaintCounterService;
+
+/**
+ * Dashboard counters against in-memory H2: raising, assigning and resolving
+ * a complaint move the counts without a reload, and with change listeners
+ * running before, during and after a reconcile reads the database, each
+ * change is counted exactly once whichever side of the read it commits on.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:counters;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/counters-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false"
+})
+class ComplaintCounterTests {
+
+    @Autowired
+    private ComplaintCounterService counterService;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ComplainService complainService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserRepo userRepository;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @BeforeEach
+    void clean() {
+        complainRepository.deleteAll();
+        counterService.reconcile();
+    }
+
+    @AfterEach
+    void restoreRepository() {
+        ReflectionTestUtils.setField(counterService, "complainRepository", complainRepository);
+    }
+
+    @Test
+    void raisingAssigningAndResolvingMoveTheCounts() throws Exception {
+        User citizen = userRepository.save(new User(0, "Asha", "Patil", "asha." + System.nanoTime() + "@mail.in",
+                "secret"));
+        Department roads = departmentRepository.save(
+                new Department("Roads " + System.nanoTime(), System.nanoTime() + "@city.gov", "secret"));
+        long version = counterService.version();
+
+        long id = complainService.submitNewComplain(citizen.getId(), "Pothole", "Roads", "Deep", "Pune", "Ward 3",
+                null, null, null).getComplainId();
+
+        assertThat(counterService.getCountByStatus()).isEqualTo(Map.of("PENDING", 1L));
+        assertThat(counterService.getCountByCategory()).isEqualTo(Map.of("Roads", 1L));
+        assertThat(counterService.getCountByCity()).containsExactly(Map.of("city", "Pune", "count", 1L));
+        assertThat(counterService.getCountByDepartment()).isEmpty();
+        assertThat(counterService.version()).isGreaterThan(version);
+
+        adminService.assignComplaintToDepartment(id, roads.getId(), 3L);
+
+        assertThat(counterService.getCountByStatus()).isEqualTo(Map.of("IN_PROGRESS", 1L));
+        assertThat(counterService.getCountByDepartment())
+                .isEqualTo(List.of(new DepartmentComplaintCountDTO(roads.getName(), 1L)));
+
+        adminService.updateComplainStatus(id, "RESOLVED", "Filled");
+
+        assertThat(counterService.getCountByStatus()).isEqualTo(Map.of("RESOLVED", 1L));
+        assertThat(counterService.getCountByDepartment())
+                .isEqualTo(List.of(new DepartmentComplaintCountDTO(roads.getName(), 1L)));
+        assertThat(counterService.getCountByCategory()).isEqualTo(Map.of("Roads", 1L));
+
+        // The live counts match a fresh load from the database
+        Map<String, Long> live = counterService.getCountByStatus();
+        counterService.reconcile();
+        assertThat(counterService.getCountByStatus()).isEqualTo(live);
+    }
+
+    @Test
+    void lateListenerOfAChangeTheReloadAlreadyReadIsNotCountedTwice() {
+        long id = complainRepository.save(complaint()).getComplainId();
+        counterService.reconcile();
+
+        // Committed before the reconcile reads, but its listener only runs afterwards
+        ComplaintChangedEvent late = change(id, Complains.Status.IN_PROGRESS);
+        counterService.reconcile();
+        eventPublisher.publishEvent(late);
+
+        assertThat(counterService.getCountByStatus()).isEqualTo(Map.of("IN_PROGRESS", 1L));
+
+        // A later change is still counted
+        eventPublisher.publishEvent(change(id, Complains.Status.RESOLVED));
+        assertThat(counterService.getCountByStatus()).isEqualTo(Map.of("RESOLVED", 1L));
+    }
+
+    @Test
+    void changeCommittedWhileTheReloadReadsIsCountedOnce() throws Exception {
+        long id = complainRepository.save(complaint()).getComplainId();
+        counterService.reconcile();
+
+        // The first count query fixes the snapshot; the change commits (and is heard) after it
+        ComplainRepository slowRepository = mock(ComplainRepository.class,
+                AdditionalAnswers.delegatesTo(complainRepository));
+        doAnswer(invocation -> {
+            Object rows = complainRepository.getComplaintCountByDepartment();
+            Thread writer = Thread.ofPlatform().start(
+                    () -> eventPublisher.publishEvent(change(id, Complains.Status.IN_PROGRESS)));
+            writer.join();
+            return rows;
+        }).when(slowRepository).getComplaintCountByDepartment();
+        ReflectionTestUtils.setField(counterService, "complainRepository", slowRepository);
+
+        counterService.reconcile();
+
+        assertThat(counterService.getCountByStatus()).isEqualTo(Map.of("IN_PROGRESS", 1L));
+        assertThat(counterService.getCountByCity()).containsExactly(Map.of("city", "Pune", "count", 1L));
+    }
+
+    /** Commits a status change and returns its event, unpublished. */
+    private ComplaintChangedEvent change(long id, Complains.Status status) {
+        Complains complaint = complainRepository.findById(id).orElseThrow();
+        ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
+        complaint.setStatus(status);
+        Complains saved = complainRepository.save(complaint);
+        return new ComplaintChangedEvent(id, saved.getUserId(), before, ComplaintSnapshot.of(saved));
+    }
+
+    private static Complains complaint() {
+        Complains complaint = new Complains();
+        complaint.setUserId(7L);
+        complaint.setTitle("Pothole");
+        complaint.setCategory("Roads");
+        complaint.setCity("Pune");
+        complaint.setCreatedAt(LocalDateTime.now());
+        return complaint;
+    }
+}
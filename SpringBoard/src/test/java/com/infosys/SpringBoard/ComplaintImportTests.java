@@ -0,0 +1,84 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.infosys.SpringBoard.dto.ImportResultDTO;
+import com.infosys.SpringBoard.entity.ComplaintImport;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.entity.User;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.repository.UserRepo;
+import com.infosys.SpringBoard.services.ComplaintImportService;
+import com.infosys.SpringBoard.services.ComplaintImportService.Format;
+
+/**
+ * Imports CSV into in-memory H2 across several chunks, with departments
+ * given by id and by name, so the chunk commits, checkpoint updates and
+ * change events all run as they do in production.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:complaintimport;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/complaintimport-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false",
+        "import.chunk-size=2"
+})
+class ComplaintImportTests {
+
+    @Autowired
+    private ComplaintImportService importService;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Test
+    void importsCsvWithDepartments() {
+        User user = userRepo.save(new User(0, "Asha", "Rao", "asha@example.com", "secret"));
+        Department roads = departmentRepository.save(new Department("Roads", "roads@city.gov", "secret"));
+        Department water = departmentRepository.save(new Department("Water", "water@city.gov", "secret"));
+
+        String csv = "userId,title,category,city,departmentId,department,status\n"
+                + user.getId() + ",Pothole,Roads,Pune," + roads.getId() + ",,PENDING\n"
+                + user.getId() + ",Leak,Water,Pune,,water,IN_PROGRESS\n"
+                + user.getId() + ",Streetlight,Power,Pune,,,\n"
+                + user.getId() + ",Unknown,Roads,Pune,99999,,\n";
+
+        ImportResultDTO result = importService.importComplaints(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), Format.CSV, "legacy.csv", null);
+
+        assertThat(result.getLastError()).isNull();
+        assertThat(result.getStatus()).isEqualTo(ComplaintImport.Status.COMPLETED);
+        assertThat(result.getRecordsRead()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getErrors()).containsExactly("record 4: department 99999 not found");
+
+        assertThat(complainRepository.findByDepartmentId(roads.getId()))
+                .extracting(Complains::getTitle).containsExactly("Pothole");
+        assertThat(complainRepository.findByDepartmentId(water.getId()))
+                .extracting(Complains::getTitle).containsExactly("Leak");
+        assertThat(complainRepository.findAll()).extracting(Complains::getTitle)
+                .containsExactlyInAnyOrderElementsOf(List.of("Pothole", "Leak", "Streetlight"));
+    }
+}
@@ -0,0 +1,120 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.infosys.SpringBoard.dto.ComplaintFilterDTO;
+import com.infosys.SpringBoard.dto.ComplaintPageDTO;
+import com.infosys.SpringBoard.dto.ComplaintSummaryDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.services.AdminService;
+
+/**
+ * Keyset pages of the admin complaint listing: filters apply before the
+ * page is cut, {@code nextCursor} continues exactly after the last row, and
+ * {@code hasMore} turns false on the last page.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:paging;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/paging-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false"
+})
+class ComplaintPagingTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    private final List<Long> punePending = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        complainRepository.deleteAll();
+        punePending.clear();
+        for (int i = 0; i < 12; i++) {
+            String city = i % 3 == 2 ? "Mumbai" : "Pune";
+            Complains.Status status = i % 4 == 3 ? Complains.Status.RESOLVED : Complains.Status.PENDING;
+            long id = complainRepository.save(complaint(city, status, TODAY.minusDays(i % 2))).getComplainId();
+            if (city.equals("Pune") && status == Complains.Status.PENDING) {
+                punePending.add(id);
+            }
+        }
+    }
+
+    @Test
+    void filteredPagesFollowTheCursorToTheLastRow() {
+        ComplaintFilterDTO filter = new ComplaintFilterDTO();
+        filter.setCity("Pune");
+        filter.setStatus(Complains.Status.PENDING);
+
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        List<ComplaintPageDTO<ComplaintSummaryDTO>> pages = new ArrayList<>();
+        do {
+            ComplaintPageDTO<ComplaintSummaryDTO> page = adminService.getComplaintSummaryPage(filter, cursor, 4);
+            pages.add(page);
+            page.getItems().forEach(row -> seen.add(row.getComplainId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(punePending);
+        assertThat(seen).hasSize(6);
+        assertThat(pages).extracting(ComplaintPageDTO::isHasMore).containsExactly(true, false);
+        assertThat(pages.get(0).getNextCursor()).isEqualTo(punePending.get(3));
+    }
+
+    @Test
+    void lastPageThatIsExactlyFullHasNoMore() {
+        ComplaintFilterDTO filter = new ComplaintFilterDTO();
+        filter.setCity("Pune");
+        filter.setStatus(Complains.Status.PENDING);
+
+        ComplaintPageDTO<Complains> page = adminService.getComplaintsPage(filter, null, punePending.size());
+
+        assertThat(page.getItems()).extracting(Complains::getComplainId).containsExactlyElementsOf(punePending);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void dateRangeIsInclusiveOfBothDays() {
+        ComplaintFilterDTO filter = new ComplaintFilterDTO();
+        filter.setFrom(TODAY);
+        filter.setTo(TODAY);
+
+        ComplaintPageDTO<ComplaintSummaryDTO> page = adminService.getComplaintSummaryPage(filter, null, 100);
+
+        assertThat(page.getItems()).hasSize(6);
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    private static Complains complaint(String city, Complains.Status status, LocalDate created) {
+        Complains complaint = new Complains();
+        complaint.setUserId(7L);
+        complaint.setTitle("Pothole");
+        complaint.setCategory("Roads");
+        complaint.setCity(city);
+        complaint.setStatus(status);
+        complaint.setCreatedAt(created.atTime(23, 59));
+        return complaint;
+    }
+}
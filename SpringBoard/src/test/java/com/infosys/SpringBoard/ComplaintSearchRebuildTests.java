@@ -0,0 +1,111 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.infosys.SpringBoard.dto.ComplaintExportRow;
+import com.infosys.SpringBoard.dto.ComplaintSearchResultDTO;
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.services.ComplaintSearchService;
+
+/**
+ * Rebuilds the search index while a complaint changes underneath it: the
+ * rebuild has already read the old row when the change is committed and
+ * indexed, so only the re-read at the end keeps the index current.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:searchrebuild;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/searchrebuild-index-${random.uuid}",
+        "search.rebuild-threads=1",
+        "notifications.dispatcher.enabled=false"
+})
+class ComplaintSearchRebuildTests {
+
+    @Autowired
+    private ComplaintSearchService searchService;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void restoreRepository() {
+        ReflectionTestUtils.setField(searchService, "complainRepository", complainRepository);
+    }
+
+    @Test
+    void changeCommittedDuringRebuildIsNotOverwritten() throws Exception {
+        Complains complaint = complainRepository.save(complaint("Pothole near the market"));
+        complainRepository.save(complaint("Broken streetlight"));
+
+        // The slice reads its rows, then the title changes before it writes them
+        ComplainRepository slowRepository = mock(ComplainRepository.class,
+                AdditionalAnswers.delegatesTo(complainRepository));
+        doAnswer(invocation -> {
+            List<ComplaintExportRow> rows = complainRepository.findExportRowsBetween(invocation.getArgument(0),
+                    invocation.getArgument(1), invocation.getArgument(2));
+            if (invocation.<Limit>getArgument(2).max() > 1) {
+                rename(complaint.getComplainId(), "Sinkhole near the market");
+            }
+            return rows;
+        }).when(slowRepository).findExportRowsBetween(anyLong(), anyLong(), any(Limit.class));
+        ReflectionTestUtils.setField(searchService, "complainRepository", slowRepository);
+
+        assertThat(searchService.rebuild().getIndexed()).isEqualTo(2);
+
+        assertThat(search("sinkhole").getHits()).extracting(ComplaintSearchResultDTO.Hit::getComplainId)
+                .containsExactly(complaint.getComplainId());
+        assertThat(search("pothole").getTotal()).isZero();
+    }
+
+    private void rename(long complainId, String title) {
+        Complains complaint = complainRepository.findById(complainId).orElseThrow();
+        ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
+        complaint.setTitle(title);
+        Complains saved = complainRepository.save(complaint);
+        eventPublisher.publishEvent(new ComplaintChangedEvent(saved.getComplainId(), saved.getUserId(), before,
+                ComplaintSnapshot.of(saved)));
+    }
+
+    private ComplaintSearchResultDTO search(String q) throws Exception {
+        searchService.refresh();
+        return searchService.search(q, null, null, 0, 10);
+    }
+
+    private static Complains complaint(String title) {
+        Complains complaint = new Complains();
+        complaint.setUserId(7L);
+        complaint.setTitle(title);
+        complaint.setCategory("Roads");
+        complaint.setCity("Pune");
+        complaint.setLocation("Ward 3");
+        complaint.setCreatedAt(LocalDateTime.now());
+        return complaint;
+    }
+}
@@ -0,0 +1,148 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.services.AccessTokenService;
+import com.infosys.SpringBoard.services.AccessTokenService.Role;
+import com.infosys.SpringBoard.services.ComplaintUpdateStream;
+
+/**
+ * Live complaint updates over SSE: a change reaches its citizen and the
+ * departments it moved between, and a subscriber that falls
+ * {@code sse.buffer-size} events behind gets a single {@code resync}
+ * instead of the backlog.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:updatestream;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/updatestream-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false",
+        "sse.buffer-size=4"
+})
+@AutoConfigureMockMvc
+class ComplaintUpdateStreamTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ComplaintUpdateStream complaintUpdateStream;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    private Executor sendExecutor;
+
+    @AfterEach
+    void restoreExecutor() {
+        if (sendExecutor != null) {
+            ReflectionTestUtils.setField(complaintUpdateStream, "sendExecutor", sendExecutor);
+        }
+    }
+
+    @Test
+    void changeReachesItsCitizenAndBothDepartments() throws Exception {
+        MockHttpServletResponse citizen = subscribe("/api/users/101/complaints/stream",
+                accessTokenService.issue(101, Role.USER));
+        MockHttpServletResponse otherCitizen = subscribe("/api/users/102/complaints/stream",
+                accessTokenService.issue(102, Role.USER));
+        MockHttpServletResponse from = subscribe("/api/dept-manager/201/complaints/stream",
+                accessTokenService.issue(201, Role.DEPARTMENT));
+        MockHttpServletResponse to = subscribe("/api/dept-manager/202/complaints/stream",
+                accessTokenService.issue(202, Role.DEPARTMENT));
+
+        complaintUpdateStream.onComplaintChanged(moved(9001, 101, 201, 202));
+
+        for (MockHttpServletResponse stream : List.of(citizen, from, to)) {
+            awaitContent(stream, "\"complainId\":9001");
+            assertThat(stream.getContentAsString()).contains("event:complaint");
+        }
+        assertThat(otherCitizen.getContentAsString()).doesNotContain("event:complaint");
+    }
+
+    @Test
+    void subscriberFallingBehindIsToldToResync() throws Exception {
+        // Writes wait until released, like a client that stopped reading
+        List<Runnable> pendingWrites = new ArrayList<>();
+        sendExecutor = (Executor) ReflectionTestUtils.getField(complaintUpdateStream, "sendExecutor");
+        ReflectionTestUtils.setField(complaintUpdateStream, "sendExecutor", (Executor) pendingWrites::add);
+
+        MockHttpServletResponse slow = subscribe("/api/users/103/complaints/stream",
+                accessTokenService.issue(103, Role.USER));
+        // "connected" plus four changes overflow the buffer of four (no one follows departments 301/302)
+        for (int i = 0; i < 4; i++) {
+            complaintUpdateStream.onComplaintChanged(moved(9100 + i, 103, 301, 302));
+        }
+        assertThat(pendingWrites).hasSize(1);
+        pendingWrites.get(0).run();
+
+        String content = slow.getContentAsString();
+        assertThat(content).contains("event:resync").doesNotContain("event:complaint").doesNotContain("connected");
+
+        // Caught up: later changes are sent normally again
+        ReflectionTestUtils.setField(complaintUpdateStream, "sendExecutor", sendExecutor);
+        complaintUpdateStream.onComplaintChanged(moved(9200, 103, 301, 302));
+        awaitContent(slow, "\"complainId\":9200");
+    }
+
+    private MockHttpServletResponse subscribe(String path, String token) throws Exception {
+        return mockMvc.perform(get(path).param("access_token", token))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    /** A committed change moving a citizen's complaint from one department to another. */
+    private static ComplaintChangedEvent moved(long complainId, long userId, long fromDepartment,
+            long toDepartment) {
+        Complains complaint = new Complains();
+        complaint.setComplainId(complainId);
+        complaint.setUserId(userId);
+        complaint.setStatus(Complains.Status.IN_PROGRESS);
+        complaint.setDeadlineDate(LocalDate.now().plusDays(3));
+        complaint.setDepartment(department(fromDepartment));
+        ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
+        complaint.setDepartment(department(toDepartment));
+        return new ComplaintChangedEvent(complainId, userId, before, ComplaintSnapshot.of(complaint));
+    }
+
+    private static Department department(long id) {
+        Department department = new Department();
+        department.setId(id);
+        department.setName("Department " + id);
+        return department;
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!response.getContentAsString().contains(expected)) {
+            assertThat(System.nanoTime()).as("waiting for %s", expected).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.services.AccessTokenService;
+import com.infosys.SpringBoard.services.AccessTokenService.Role;
+import com.infosys.SpringBoard.services.ComplainService;
+import com.infosys.SpringBoard.services.OptimisticRetry;
+
+/**
+ * Status updates racing another writer on the same complaint: the loser of
+ * the version check is retried on fresh state, gives up with 409 after
+ * {@code complaints.update.max-attempts}, and its UPDATE writes only the
+ * columns it changed ({@code @DynamicUpdate}).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:concurrentupdates;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/concurrentupdates-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false",
+        "complaints.update.max-attempts=3",
+        "complaints.update.backoff-ms=0"
+})
+@AutoConfigureMockMvc
+class ConcurrentComplaintUpdateTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ComplainService complainService;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long departmentId;
+    private long complaintId;
+
+    @BeforeEach
+    void seed() {
+        Department department = departmentRepository.save(
+                new Department("Roads " + System.nanoTime(), System.nanoTime() + "@city.gov", "secret"));
+        departmentId = department.getId();
+
+        Complains complaint = new Complains();
+        complaint.setUserId(7L);
+        complaint.setTitle("Pothole");
+        complaint.setCategory("Roads");
+        complaint.setCity("Pune");
+        complaint.setLocation("Ward 3");
+        complaint.setDepartment(department);
+        complaint.setCreatedAt(LocalDateTime.now());
+        complaintId = complainRepository.save(complaint).getComplainId();
+    }
+
+    @AfterEach
+    void restoreRepository() {
+        ReflectionTestUtils.setField(complainService, "complainRepository", complainRepository);
+    }
+
+    @Test
+    void updateLosingTheVersionCheckIsRetriedOnTopOfTheOtherChange() throws Exception {
+        AtomicInteger reads = interleave(1, this::rename);
+
+        updateStatus("IN_PROGRESS", "crew on the way").andExpect(status().isOk());
+
+        assertThat(reads).hasValue(2);
+        Complains complaint = complainRepository.findById(complaintId).orElseThrow();
+        assertThat(complaint.getStatus()).isEqualTo(Complains.Status.IN_PROGRESS);
+        assertThat(complaint.getMessage()).isEqualTo("crew on the way");
+        assertThat(complaint.getTitle()).isEqualTo("Pothole (renamed 1)");
+        assertThat(complaint.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void updateStillConflictingAfterMaxAttemptsIsAConflict() throws Exception {
+        AtomicInteger reads = interleave(Integer.MAX_VALUE, this::rename);
+
+        updateStatus("RESOLVED", "fixed")
+                .andExpect(status().isConflict())
+                .andExpect(content().string(OptimisticRetry.CONFLICT_MESSAGE));
+
+        assertThat(reads).hasValue(3);
+        Complains complaint = complainRepository.findById(complaintId).orElseThrow();
+        assertThat(complaint.getStatus()).isEqualTo(Complains.Status.PENDING);
+        assertThat(complaint.getTitle()).isEqualTo("Pothole (renamed 3)");
+    }
+
+    @Test
+    void updateWritesOnlyTheColumnsItChanged() throws Exception {
+        // A column written behind Hibernate's back (no version bump) after the service read the row
+        AtomicInteger reads = interleave(1, read -> jdbcTemplate.update(
+                "UPDATE complains SET title = ? WHERE complain_id = ?", "Sinkhole", complaintId));
+
+        updateStatus("IN_PROGRESS", "crew on the way").andExpect(status().isOk());
+
+        assertThat(reads).hasValue(1);
+        Complains complaint = complainRepository.findById(complaintId).orElseThrow();
+        assertThat(complaint.getStatus()).isEqualTo(Complains.Status.IN_PROGRESS);
+        assertThat(complaint.getTitle()).isEqualTo("Sinkhole");
+    }
+
+    /**
+     * Makes the service's first {@code times} reads of the complaint stale:
+     * {@code otherWriter} commits on another thread after the read and
+     * before the update commits.
+     */
+    private AtomicInteger interleave(int times, IntConsumer otherWriter) {
+        AtomicInteger reads = new AtomicInteger();
+        ComplainRepository racingRepository = mock(ComplainRepository.class,
+                AdditionalAnswers.delegatesTo(complainRepository));
+        doAnswer(invocation -> {
+            Object found = complainRepository.findById(invocation.getArgument(0));
+            int read = reads.incrementAndGet();
+            if (read <= times) {
+                Thread writer = Thread.ofPlatform().start(() -> otherWriter.accept(read));
+                writer.join();
+            }
+            return found;
+        }).when(racingRepository).findById(any());
+        ReflectionTestUtils.setField(complainService, "complainRepository", racingRepository);
+        return reads;
+    }
+
+    private void rename(int read) {
+        Complains other = complainRepository.findById(complaintId).orElseThrow();
+        other.setTitle("Pothole (renamed " + read + ")");
+        complainRepository.save(other);
+    }
+
+    private ResultActions updateStatus(String newStatus, String message) throws Exception {
+        return mockMvc.perform(put("/api/dept-manager/complaints/" + complaintId + "/status")
+                .header(HttpHeaders.AUTHORIZATION,
+                        "Bearer " + accessTokenService.issue(departmentId, Role.DEPARTMENT))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"" + newStatus + "\",\"message\":\"" + message + "\"}"));
+    }
+}
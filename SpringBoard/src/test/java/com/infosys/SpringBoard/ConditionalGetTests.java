@@ -0,0 +1,124 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.services.AccessTokenService;
+import com.infosys.SpringBoard.services.AccessTokenService.Role;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Conditional GETs against in-memory H2: revalidating an unchanged complaint
+ * list or dashboard with its current ETag is answered 304 without any SQL.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conditionalget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/conditionalget-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetTests {
+
+    private static final long USER_ID = 42;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    private long departmentId;
+
+    @BeforeAll
+    void seed() {
+        Department department = departmentRepository.save(new Department("Roads", "roads@city.gov", "secret"));
+        departmentId = department.getId();
+
+        for (int c = 0; c < 3; c++) {
+            Complains complaint = new Complains();
+            complaint.setUserId(USER_ID);
+            complaint.setTitle("Complaint " + c);
+            complaint.setCategory("Roads");
+            complaint.setCity("Pune");
+            complaint.setLocation("Ward " + c);
+            complaint.setDepartment(department);
+            complaint.setCreatedAt(LocalDateTime.now());
+            complainRepository.save(complaint);
+        }
+    }
+
+    Stream<String> conditionalEndpoints() {
+        return Stream.of(
+                "/api/admin/complaints/department-count",
+                "/api/admin/complaints/city-count",
+                "/api/dept-manager/" + departmentId + "/complaints",
+                "/api/dept-manager/" + departmentId + "/complaints?view=full",
+                "/api/users/complaints/history/" + USER_ID,
+                "/api/users/complaints/history/" + USER_ID + "?view=full");
+    }
+
+    @ParameterizedTest(name = "{0} with a current ETag -> 304")
+    @MethodSource("conditionalEndpoints")
+    void unchangedResponsesAreNotModifiedWithoutStatements(String path) throws Exception {
+        String token = "Bearer " + tokenFor(path);
+        String etag = mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, token).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private String tokenFor(String path) {
+        if (path.startsWith("/api/users/")) {
+            return accessTokenService.issue(USER_ID, Role.USER);
+        }
+        if (path.startsWith("/api/dept-manager/")) {
+            return accessTokenService.issue(departmentId, Role.DEPARTMENT);
+        }
+        return accessTokenService.issue(1, Role.ADMIN);
+    }
+}
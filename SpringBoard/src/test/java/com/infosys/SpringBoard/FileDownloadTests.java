@@ -0,0 +1,140 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.infosys.SpringBoard.services.ImageStorageService;
+
+/**
+ * Serving a stored image: validators and 304s, single byte ranges gated by
+ * If-Range, unsatisfiable ranges, and HEAD answered without a body.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:filedownload;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/filedownload-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false",
+        "storage.type=local",
+        "file.upload-dir=${java.io.tmpdir}/filedownload-uploads-${random.uuid}"
+})
+@AutoConfigureMockMvc
+class FileDownloadTests {
+
+    private static final byte[] CONTENT = new byte[100];
+
+    static {
+        for (int i = 0; i < CONTENT.length; i++) {
+            CONTENT[i] = (byte) i;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    private String path;
+    private String etag;
+
+    @BeforeEach
+    void store() throws Exception {
+        String name = imageStorageService.store(new MockMultipartFile("image", "photo.bin", null, CONTENT));
+        path = "/api/files/download/" + name;
+        etag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+    }
+
+    @Test
+    void fullBodyWithoutRange() throws Exception {
+        byte[] body = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(body).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void singleRangeIsPartialContent() throws Exception {
+        byte[] body = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/100"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(body).isEqualTo(Arrays.copyOfRange(CONTENT, 10, 20));
+    }
+
+    @Test
+    void suffixRangeReturnsTheTail() throws Exception {
+        byte[] body = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 95-99/100"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(body).isEqualTo(Arrays.copyOfRange(CONTENT, 95, 100));
+    }
+
+    @Test
+    void rangeAppliesOnlyWhileIfRangeStillMatches() throws Exception {
+        mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=0-9").header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent());
+
+        byte[] body = mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=0-9")
+                .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void rangePastTheEndIsNotSatisfiable() throws Exception {
+        mockMvc.perform(get(path).header(HttpHeaders.RANGE, "bytes=200-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    void currentEtagIsNotModified() throws Exception {
+        byte[] body = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    void headHasHeadersButNoBody() throws Exception {
+        byte[] body = mockMvc.perform(head(path))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(body).isEmpty();
+    }
+}
@@ -0,0 +1,135 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.infosys.SpringBoard.repository.ImageBlobRepository;
+import com.infosys.SpringBoard.services.ImageStorageService;
+import com.infosys.SpringBoard.services.ImageStorageService.Variant;
+
+/**
+ * Content-addressed image blobs: uploads differing only in metadata share
+ * one blob, complaint references are counted, and garbage collection only
+ * removes blobs left unreferenced past the grace period.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:imageblobs;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/imageblobs-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false",
+        "storage.type=local",
+        "storage.gc.grace-minutes=60",
+        "file.upload-dir=${java.io.tmpdir}/imageblobs-uploads-${random.uuid}"
+})
+class ImageBlobLifecycleTests {
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ImageBlobRepository imageBlobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void uploadsDifferingOnlyInMetadataShareOneBlob() throws Exception {
+        byte[] photo = jpeg(0x336699);
+        long blobs = imageBlobRepository.count();
+
+        String first = imageStorageService.store(upload("a.jpg", withComment(photo, "taken at home")));
+        String second = imageStorageService.store(upload("b.JPG", withComment(photo, "taken at work")));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(imageBlobRepository.count()).isEqualTo(blobs + 1);
+        assertThat(refCount(first)).isZero();
+    }
+
+    @Test
+    void referencesAreCounted() throws Exception {
+        String name = imageStorageService.store(upload("c.jpg", jpeg(0x112233)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            imageStorageService.retain(name);
+            imageStorageService.retain(name);
+        });
+        transactionTemplate.executeWithoutResult(status -> imageStorageService.release(name));
+
+        assertThat(refCount(name)).isEqualTo(1);
+    }
+
+    @Test
+    void onlyBlobsUnreferencedPastTheGracePeriodAreCollected() throws Exception {
+        String fresh = imageStorageService.store(upload("d.jpg", jpeg(0x445566)));
+        String stale = imageStorageService.store(upload("e.jpg", jpeg(0x778899)));
+        String referenced = imageStorageService.store(upload("f.jpg", jpeg(0xAABBCC)));
+        transactionTemplate.executeWithoutResult(status -> imageStorageService.retain(referenced));
+
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(2);
+        imageBlobRepository.touch(hashOf(stale), longAgo);
+        imageBlobRepository.touch(hashOf(referenced), longAgo);
+
+        imageStorageService.collectGarbage();
+
+        assertThat(imageBlobRepository.findById(hashOf(stale))).isEmpty();
+        assertThat(imageStorageService.resolve(stale, Variant.ORIGINAL)).isEmpty();
+        assertThat(imageStorageService.resolve(fresh, Variant.ORIGINAL)).isPresent();
+        assertThat(imageStorageService.resolve(referenced, Variant.ORIGINAL)).isPresent();
+
+        // Uploading the collected bytes again brings the blob back
+        String again = imageStorageService.store(upload("e.jpg", jpeg(0x778899)));
+        assertThat(again).isEqualTo(stale);
+        assertThat(imageStorageService.resolve(again, Variant.ORIGINAL)).isPresent();
+    }
+
+    private int refCount(String name) {
+        return imageBlobRepository.findById(hashOf(name)).orElseThrow().getRefCount();
+    }
+
+    private static String hashOf(String name) {
+        return name.substring(0, 64);
+    }
+
+    private static MockMultipartFile upload(String filename, byte[] content) {
+        return new MockMultipartFile("image", filename, "image/jpeg", content);
+    }
+
+    private static byte[] jpeg(int rgb) throws Exception {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(1, 1, rgb);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    /** Inserts a COM segment right after SOI. */
+    private static byte[] withComment(byte[] jpeg, String comment) {
+        byte[] text = comment.getBytes(StandardCharsets.US_ASCII);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xFE);
+        out.write((text.length + 2) >> 8);
+        out.write((text.length + 2) & 0xFF);
+        out.writeBytes(text);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,184 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.infosys.SpringBoard.config.AsyncConfig;
+import com.infosys.SpringBoard.entity.User;
+import com.infosys.SpringBoard.repository.UserRepo;
+import com.infosys.SpringBoard.services.LoginRateLimiter;
+
+/**
+ * User login: GCRA buckets per email and per IP (429 with Retry-After once
+ * a burst is spent), 503 when the password executor's queue is full, and
+ * hashes weaker than the configured BCrypt strength replaced on login.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:login;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/login-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false",
+        "auth.bcrypt.strength=5",
+        "auth.verify.threads=1",
+        "auth.verify.queue-capacity=1",
+        "auth.rate-limit.ip.capacity=8",
+        "auth.rate-limit.ip.per-minute=8",
+        "auth.rate-limit.email.capacity=3",
+        "auth.rate-limit.email.per-minute=3"
+})
+@AutoConfigureMockMvc
+class LoginTests {
+
+    private static final String PASSWORD = "correct horse";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private UserRepo userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier(AsyncConfig.PASSWORD_EXECUTOR)
+    private ThreadPoolTaskExecutor passwordExecutor;
+
+    @Test
+    void emailBurstIsSpentThenRefillsAtTheConfiguredRate() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(loginRateLimiter.tryAcquire("10.0.0.1", "burst@mail.in")).isZero();
+        }
+
+        // 3 per minute: the next token is about 20 s away
+        assertThat(loginRateLimiter.tryAcquire("10.0.0.1", "burst@mail.in")).isBetween(19_000L, 20_000L);
+        // Case and surrounding spaces don't make a new bucket
+        assertThat(loginRateLimiter.tryAcquire("10.0.0.1", " BURST@mail.in ")).isPositive();
+        // Another email from the same address still has tokens
+        assertThat(loginRateLimiter.tryAcquire("10.0.0.1", "other@mail.in")).isZero();
+    }
+
+    @Test
+    void ipBucketLimitsAcrossEmails() {
+        for (int i = 0; i < 8; i++) {
+            assertThat(loginRateLimiter.tryAcquire("10.0.0.2", "user" + i + "@mail.in")).isZero();
+        }
+
+        assertThat(loginRateLimiter.tryAcquire("10.0.0.2", "fresh@mail.in")).isPositive();
+        assertThat(loginRateLimiter.tryAcquire("10.0.0.3", "fresh@mail.in")).isZero();
+    }
+
+    @Test
+    void spentBurstIsTooManyRequestsWithRetryAfter() throws Exception {
+        saveUser("limited@mail.in", passwordEncoder.encode(PASSWORD));
+        for (int i = 0; i < 3; i++) {
+            completed(login("10.0.1.1", "limited@mail.in", "wrong")).andExpect(status().isUnauthorized());
+        }
+
+        String retryAfter = completed(login("10.0.1.1", "limited@mail.in", PASSWORD))
+                .andExpect(status().isTooManyRequests())
+                .andReturn().getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+        assertThat(Long.parseLong(retryAfter)).isBetween(1L, 20L);
+    }
+
+    @Test
+    void fullVerificationQueueIsServiceUnavailable() throws Exception {
+        saveUser("busy@mail.in", passwordEncoder.encode(PASSWORD));
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // One running and one queued task fill the single-thread executor,
+            // once an earlier login's task has let go of the thread
+            awaitIdle();
+            passwordExecutor.execute(() -> awaitQuietly(release));
+            passwordExecutor.execute(() -> awaitQuietly(release));
+
+            completed(login("10.0.2.1", "busy@mail.in", PASSWORD))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        } finally {
+            release.countDown();
+        }
+
+        completed(login("10.0.2.1", "busy@mail.in", PASSWORD)).andExpect(status().isOk());
+    }
+
+    @Test
+    void weakerHashIsReplacedAtLogin() throws Exception {
+        String weak = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        long id = saveUser("legacy@mail.in", weak);
+
+        completed(login("10.0.3.1", "legacy@mail.in", PASSWORD)).andExpect(status().isOk());
+
+        String upgraded = userRepository.findById(id).orElseThrow().getPassword();
+        assertThat(upgraded).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches(PASSWORD, upgraded)).isTrue();
+
+        // Already at strength: the next login leaves it alone
+        completed(login("10.0.3.1", "legacy@mail.in", PASSWORD)).andExpect(status().isOk());
+        assertThat(userRepository.findById(id).orElseThrow().getPassword()).isEqualTo(upgraded);
+    }
+
+    private long saveUser(String email, String hash) {
+        return userRepository.save(new User(0, "Asha", "Patil", email, hash)).getId();
+    }
+
+    private ResultActions login(String ip, String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/users/login")
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+    }
+
+    /** The final response of a login, which completes asynchronously. */
+    private ResultActions completed(ResultActions started) throws Exception {
+        MvcResult result = started.andReturn();
+        result.getAsyncResult(10_000);
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (passwordExecutor.getActiveCount() > 0 || passwordExecutor.getQueueSize() > 0) {
+            assertThat(System.nanoTime()).as("password executor idle").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
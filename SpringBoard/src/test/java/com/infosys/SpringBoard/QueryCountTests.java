@@ -0,0 +1,163 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.entity.Worker;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.repository.WorkerRepository;
+import com.infosys.SpringBoard.services.AccessTokenService;
+import com.infosys.SpringBoard.services.AccessTokenService.Role;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards against N+1 regressions: each read endpoint must issue a fixed
+ * number of SQL statements no matter how many departments, workers and
+ * complaints exist. Runs against in-memory H2 with caches cleared before
+ * every request, so the limits are for a cold cache.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        // Fresh index so no startup rebuild runs alongside the measured requests
+        "search.index-dir=${java.io.tmpdir}/querycount-index-${random.uuid}",
+        // No outbox polling alongside the measured requests
+        "notifications.dispatcher.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountTests {
+
+    private static final int DEPARTMENTS = 3;
+    private static final int WORKERS_PER_DEPARTMENT = 4;
+    private static final int COMPLAINTS_PER_DEPARTMENT = 10;
+    private static final long USER_ID = 42;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @Autowired
+    private WorkerRepository workerRepository;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private AccessTokenService accessTokenService;
+
+    private long departmentId;
+    private long complaintId;
+
+    @BeforeAll
+    void seed() {
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = departmentRepository.save(
+                    new Department("Department " + d, "dept" + d + "@city.gov", "secret"));
+
+            List<Worker> workers = new ArrayList<>();
+            for (int w = 0; w < WORKERS_PER_DEPARTMENT; w++) {
+                workers.add(workerRepository.save(
+                        new Worker(null, "Worker " + d + "-" + w, "w" + d + w + "@city.gov", "98" + d + w, department)));
+            }
+
+            for (int c = 0; c < COMPLAINTS_PER_DEPARTMENT; c++) {
+                Complains complaint = new Complains();
+                complaint.setUserId(USER_ID);
+                complaint.setTitle("Complaint " + d + "-" + c);
+                complaint.setCategory("Roads");
+                complaint.setCity("Pune");
+                complaint.setLocation("Ward " + c);
+                complaint.setDepartment(department);
+                complaint.setDeadlineDate(LocalDate.now().plusDays(c));
+                complaint.setCreatedAt(LocalDateTime.now());
+                complaint.setAssignedWorkers(new ArrayList<>(workers.subList(0, 2)));
+                complaintId = complainRepository.save(complaint).getComplainId();
+            }
+            departmentId = department.getId();
+        }
+    }
+
+    Stream<Arguments> endpoints() {
+        return Stream.of(
+                Arguments.of("/api/dept-manager/all-names", 1),
+                Arguments.of("/api/dept-manager/" + departmentId, 1),
+                Arguments.of("/api/dept-manager/" + departmentId + "?view=full", 2),
+                Arguments.of("/api/dept-manager/" + departmentId + "/workers", 1),
+                Arguments.of("/api/dept-manager/" + departmentId + "/complaints", 1),
+                Arguments.of("/api/dept-manager/" + departmentId + "/complaints?view=full", 1),
+                Arguments.of("/api/dept-manager/complaints/" + complaintId + "/workers", 1),
+                Arguments.of("/api/admin/complaints", 1),
+                Arguments.of("/api/admin/complaints?view=full", 1),
+                Arguments.of("/api/admin/complaints?size=20&view=full", 1),
+                Arguments.of("/api/admin/complaints/department-count", 1),
+                Arguments.of("/api/admin/complaints/export?format=csv", 1),
+                Arguments.of("/api/admin/complaints/export?format=ndjson&gzip=true", 1),
+                Arguments.of("/api/admin/complaints/search?q=complaint", 0),
+                Arguments.of("/api/users/complaints/history/" + USER_ID, 1),
+                Arguments.of("/api/users/complaints/history/" + USER_ID + "?view=full", 1));
+    }
+
+    @ParameterizedTest(name = "{0} -> at most {1} statement(s)")
+    @MethodSource("endpoints")
+    void endpointIssuesBoundedStatements(String path, int maxStatements) throws Exception {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenFor(path)))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements for GET %s", path)
+                .isLessThanOrEqualTo(maxStatements);
+    }
+
+    private String tokenFor(String path) {
+        if (path.startsWith("/api/users/")) {
+            return accessTokenService.issue(USER_ID, Role.USER);
+        }
+        if (path.startsWith("/api/dept-manager/")) {
+            return accessTokenService.issue(departmentId, Role.DEPARTMENT);
+        }
+        return accessTokenService.issue(1, Role.ADMIN);
+    }
+}
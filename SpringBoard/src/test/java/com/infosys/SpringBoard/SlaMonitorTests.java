@@ -0,0 +1,200 @@
+package com.infosys.SpringBoard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.infosys.SpringBoard.entity.Complains;
+import com.infosys.SpringBoard.entity.Department;
+import com.infosys.SpringBoard.events.ComplaintChangedEvent;
+import com.infosys.SpringBoard.events.ComplaintSlaEvent;
+import com.infosys.SpringBoard.events.ComplaintSnapshot;
+import com.infosys.SpringBoard.repository.ComplainRepository;
+import com.infosys.SpringBoard.repository.DepartmentRepo;
+import com.infosys.SpringBoard.services.SlaMonitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * SLA alarms for assigned complaints: a deadline inside the warning window
+ * announces a near breach, a passed one a breach and an overdue count, and
+ * a complaint resolved before its alarm fires is never announced.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:slamonitor;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/slamonitor-index-${random.uuid}",
+        "notifications.dispatcher.enabled=false",
+        "sla.zone=UTC",
+        "sla.warning-hours=24"
+})
+class SlaMonitorTests {
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneOffset.UTC);
+
+    @TestConfiguration
+    static class Listener {
+
+        @Bean
+        BlockingQueue<ComplaintSlaEvent> slaEvents() {
+            return new LinkedBlockingQueue<>();
+        }
+
+        @Bean
+        Object slaEventRecorder(BlockingQueue<ComplaintSlaEvent> slaEvents) {
+            return new Object() {
+                @EventListener
+                public void on(ComplaintSlaEvent event) {
+                    slaEvents.add(event);
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private SlaMonitor slaMonitor;
+
+    @Autowired
+    private ComplainRepository complainRepository;
+
+    @Autowired
+    private DepartmentRepo departmentRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BlockingQueue<ComplaintSlaEvent> slaEvents;
+
+    private Department department;
+
+    @BeforeEach
+    void seed() {
+        slaEvents.clear();
+        department = departmentRepository.save(
+                new Department("Roads " + System.nanoTime(), System.nanoTime() + "@city.gov", "secret"));
+    }
+
+    @Test
+    void deadlineInsideTheWarningWindowIsANearBreach() throws Exception {
+        long id = assign(TODAY);
+
+        assertThat(eventsFor(id, 1)).extracting(ComplaintSlaEvent::getKind)
+                .containsExactly(ComplaintSlaEvent.Kind.NEAR_BREACH);
+        assertThat(eventsFor(id, 1)).isEmpty();
+    }
+
+    @Test
+    void passedDeadlineIsABreachAndCountsAsOverdue() throws Exception {
+        long id = assign(TODAY.minusDays(1));
+
+        List<ComplaintSlaEvent> events = eventsFor(id, 2);
+        assertThat(events).extracting(ComplaintSlaEvent::getKind)
+                .containsExactly(ComplaintSlaEvent.Kind.NEAR_BREACH, ComplaintSlaEvent.Kind.BREACH);
+        assertThat(events.get(1).getDepartmentName()).isEqualTo(department.getName());
+        assertThat(meterRegistry.get("sla.breaches").tag("department", department.getName()).counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("sla.overdue").tag("department", department.getName()).gauge().value())
+                .isEqualTo(1);
+
+        // Resolving it clears the overdue count
+        change(id, c -> c.setStatus(Complains.Status.RESOLVED));
+        assertThat(meterRegistry.get("sla.overdue").tag("department", department.getName()).gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void deadlineOutsideTheWarningWindowIsQuiet() throws Exception {
+        int tracked = slaMonitor.size();
+        long id = assign(TODAY.plusDays(5));
+
+        assertThat(slaMonitor.size()).isEqualTo(tracked + 1);
+        assertThat(eventsFor(id, 1)).isEmpty();
+    }
+
+    @Test
+    void complaintResolvedBeforeItsAlarmFiresIsNotAnnounced() throws Exception {
+        // Holding the monitor's lock keeps its alarm thread from firing in between
+        synchronized (slaMonitor) {
+            long id = assign(TODAY.minusDays(1));
+            change(id, c -> c.setStatus(Complains.Status.RESOLVED));
+            slaEvents.clear();
+        }
+
+        assertThat(slaEvents.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    /** Assigns a new complaint to the department with the given deadline, as the admin console does. */
+    private long assign(LocalDate deadline) {
+        Complains complaint = new Complains();
+        complaint.setUserId(7L);
+        complaint.setTitle("Pothole");
+        complaint.setCategory("Roads");
+        complaint.setCity("Pune");
+        complaint.setCreatedAt(LocalDateTime.now());
+        long id = complainRepository.save(complaint).getComplainId();
+        change(id, c -> {
+            c.setDepartment(department);
+            c.setDeadlineDate(deadline);
+            c.setStatus(Complains.Status.IN_PROGRESS);
+        });
+        return id;
+    }
+
+    /** Commits a change; the monitor hears of it after the commit. */
+    private void change(long id, Consumer<Complains> edit) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Complains complaint = complainRepository.findById(id).orElseThrow();
+            ComplaintSnapshot before = ComplaintSnapshot.of(complaint);
+            edit.accept(complaint);
+            Complains saved = complainRepository.save(complaint);
+            eventPublisher.publishEvent(new ComplaintChangedEvent(id, saved.getUserId(), before,
+                    ComplaintSnapshot.of(saved)));
+        });
+    }
+
+    /** Up to {@code count} SLA events for the complaint, waiting a little for each. */
+    private List<ComplaintSlaEvent> eventsFor(long id, int count) throws InterruptedException {
+        List<ComplaintSlaEvent> events = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (events.size() < count) {
+            ComplaintSlaEvent event = slaEvents.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (event == null) {
+                break;
+            }
+            if (event.getComplainId() == id) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,177 @@
+package com.infosys.SpringBoard.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Metadata stripping on generated JPEG and PNG files: private metadata is
+ * gone, the orientation survives, the result still decodes, and damaged
+ * files are rejected instead of stored or failing as server errors.
+ */
+class ImageMetadataStripperTests {
+
+    private static final String GPS_MARKER = "GPS 18.5204N 73.8567E";
+
+    @Test
+    void jpegLosesExifAndCommentButKeepsOrientation() throws IOException {
+        byte[] jpeg = insertAfterSoi(image("jpeg"), exifSegment(6), segment(0xFE, "shot on a phone".getBytes()));
+
+        byte[] stripped = strip(jpeg);
+
+        assertThat(contains(stripped, GPS_MARKER.getBytes(StandardCharsets.US_ASCII))).isFalse();
+        assertThat(contains(stripped, "shot on a phone".getBytes())).isFalse();
+        assertThat(ImageMetadataStripper.readOrientation(new ByteArrayInputStream(jpeg))).isEqualTo(6);
+        assertThat(ImageMetadataStripper.readOrientation(new ByteArrayInputStream(stripped))).isEqualTo(6);
+        assertThat(ImageIO.read(new ByteArrayInputStream(stripped))).isNotNull();
+    }
+
+    @Test
+    void uprightJpegKeepsNoExifAtAll() throws IOException {
+        byte[] stripped = strip(insertAfterSoi(image("jpeg"), exifSegment(ImageMetadataStripper.UPRIGHT)));
+
+        assertThat(contains(stripped, "Exif".getBytes(StandardCharsets.US_ASCII))).isFalse();
+        assertThat(ImageMetadataStripper.readOrientation(new ByteArrayInputStream(stripped)))
+                .isEqualTo(ImageMetadataStripper.UPRIGHT);
+    }
+
+    @Test
+    void pngLosesTextChunks() throws IOException {
+        byte[] png = image("png");
+        // Right after the signature and IHDR (8 + 4 + 4 + 13 + 4 bytes)
+        int afterHeader = 33;
+        byte[] text = chunk("tEXt", ("Comment\0" + GPS_MARKER).getBytes(StandardCharsets.ISO_8859_1));
+        byte[] tagged = concat(Arrays.copyOfRange(png, 0, afterHeader), text,
+                Arrays.copyOfRange(png, afterHeader, png.length));
+
+        byte[] stripped = strip(tagged);
+
+        assertThat(stripped).isEqualTo(png);
+        assertThat(ImageIO.read(new ByteArrayInputStream(stripped))).isNotNull();
+    }
+
+    @Test
+    void otherFormatsAreCopiedUnchanged() throws IOException {
+        byte[] gif = image("gif");
+        assertThat(strip(gif)).isEqualTo(gif);
+    }
+
+    @Test
+    void jpegSegmentShorterThanItsLengthFieldIsMalformed() throws IOException {
+        byte[] jpeg = image("jpeg");
+        byte[] bad = concat(Arrays.copyOfRange(jpeg, 0, 2), new byte[] { (byte) 0xFF, (byte) 0xE1, 0, 1 },
+                Arrays.copyOfRange(jpeg, 2, jpeg.length));
+
+        assertThatThrownBy(() -> strip(bad)).isInstanceOf(MalformedImageException.class);
+        assertThat(ImageMetadataStripper.readOrientation(new ByteArrayInputStream(bad)))
+                .isEqualTo(ImageMetadataStripper.UPRIGHT);
+    }
+
+    @Test
+    void truncatedJpegIsMalformed() throws IOException {
+        byte[] jpeg = insertAfterSoi(image("jpeg"), exifSegment(6));
+        byte[] truncated = Arrays.copyOf(jpeg, 30);
+
+        assertThatThrownBy(() -> strip(truncated)).isInstanceOf(MalformedImageException.class);
+        assertThat(ImageMetadataStripper.readOrientation(new ByteArrayInputStream(truncated)))
+                .isEqualTo(ImageMetadataStripper.UPRIGHT);
+    }
+
+    @Test
+    void truncatedPngIsMalformed() throws IOException {
+        byte[] png = image("png");
+        byte[] truncated = Arrays.copyOf(png, png.length - 8);
+
+        assertThatThrownBy(() -> strip(truncated)).isInstanceOf(MalformedImageException.class);
+    }
+
+    @Test
+    void pngWithNegativeChunkLengthIsMalformed() throws IOException {
+        byte[] png = image("png");
+        ByteBuffer.wrap(png).putInt(8, -1);
+
+        assertThatThrownBy(() -> strip(png)).isInstanceOf(MalformedImageException.class);
+    }
+
+    private static byte[] strip(byte[] image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageMetadataStripper.copyWithoutMetadata(new ByteArrayInputStream(image), out);
+        return out.toByteArray();
+    }
+
+    private static byte[] image(String format) throws IOException {
+        BufferedImage image = new BufferedImage(16, 8, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(3, 2, 0xFF0000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(ImageIO.write(image, format, out)).isTrue();
+        return out.toByteArray();
+    }
+
+    /** APP1 EXIF: IFD0 with Orientation and a GPS IFD pointer, then GPS data. */
+    private static byte[] exifSegment(int orientation) {
+        byte[] gps = GPS_MARKER.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer tiff = ByteBuffer.allocate(6 + 8 + 2 + 24 + 4 + 2 + 12 + 4 + gps.length);
+        tiff.put("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        tiff.putShort((short) 0x4D4D).putShort((short) 42).putInt(8);
+        // IFD0 at 8
+        tiff.putShort((short) 2);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putShort((short) 0x8825).putShort((short) 4).putInt(1).putInt(38);
+        tiff.putInt(0);
+        // GPS IFD at 38: GPSLatitude as ASCII pointing at the marker
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0002).putShort((short) 2).putInt(gps.length).putInt(56);
+        tiff.putInt(0);
+        tiff.put(gps);
+        return segment(0xE1, tiff.array());
+    }
+
+    private static byte[] segment(int marker, byte[] payload) {
+        return ByteBuffer.allocate(4 + payload.length)
+                .put((byte) 0xFF).put((byte) marker).putShort((short) (payload.length + 2)).put(payload)
+                .array();
+    }
+
+    private static byte[] chunk(String type, byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(type.getBytes(StandardCharsets.US_ASCII));
+        crc.update(data);
+        return ByteBuffer.allocate(12 + data.length)
+                .putInt(data.length).put(type.getBytes(StandardCharsets.US_ASCII)).put(data).putInt((int) crc.getValue())
+                .array();
+    }
+
+    private static byte[] insertAfterSoi(byte[] jpeg, byte[]... segments) {
+        byte[] inserted = concat(segments);
+        return concat(Arrays.copyOfRange(jpeg, 0, 2), inserted, Arrays.copyOfRange(jpeg, 2, jpeg.length));
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean contains(byte[] haystack, byte[] needle) {
+        for (int i = 0; i + needle.length <= haystack.length; i++) {
+            if (Arrays.equals(haystack, i, i + needle.length, needle, 0, needle.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,197 @@
+package com.infosys.SpringBoard.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.infosys.SpringBoard.entity.NotificationOutbox;
+import com.infosys.SpringBoard.repository.NotificationOutboxRepository;
+
+/**
+ * Outbox delivery rounds driven one at a time: a claimed row is sent once,
+ * failures are retried with backoff until {@code notifications.max-attempts},
+ * and a row whose claim lease ran out is claimed again, with the late result
+ * of the first claim ignored.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dispatcher;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "search.index-dir=${java.io.tmpdir}/dispatcher-index-${random.uuid}",
+        // Rounds are run by the tests
+        "notifications.dispatcher.enabled=false",
+        "notifications.max-attempts=3",
+        "notifications.backoff.initial-ms=10000",
+        "notifications.backoff.max-ms=60000",
+        "notifications.claim-timeout-ms=300",
+        "notifications.send-timeout-ms=2000"
+})
+class NotificationDispatcherTests {
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationSender sender;
+
+    @BeforeEach
+    void clean() {
+        outboxRepository.deleteAll();
+    }
+
+    @AfterEach
+    void restoreSender() {
+        ReflectionTestUtils.setField(dispatcher, "sender", sender);
+    }
+
+    @Test
+    void dueRowIsClaimedAndSentOnce() {
+        AtomicInteger sends = new AtomicInteger();
+        useSender((channel, recipient, subject, body) -> sends.incrementAndGet());
+        long id = enqueue();
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+        assertThat(dispatcher.dispatchBatch()).isZero();
+
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(NotificationOutbox.Status.SENT);
+        assertThat(row.getAttempts()).isEqualTo(1);
+        assertThat(row.getSentAt()).isNotNull();
+        assertThat(sends).hasValue(1);
+    }
+
+    @Test
+    void failedSendIsRetriedWithBackoff() {
+        useSender((channel, recipient, subject, body) -> {
+            throw new IOException("SMTP unavailable");
+        });
+        long id = enqueue();
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchBatch();
+
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(row.getLastError()).isEqualTo("IOException: SMTP unavailable");
+        // First retry: half to all of backoff.initial-ms
+        assertThat(row.getNextAttemptAt()).isBetween(before.plusSeconds(5), LocalDateTime.now().plusSeconds(10));
+        assertThat(dispatcher.dispatchBatch()).as("not due before its backoff").isZero();
+    }
+
+    @Test
+    void rowIsFailedAfterMaxAttempts() {
+        useSender((channel, recipient, subject, body) -> {
+            throw new IOException("SMTP unavailable");
+        });
+        long id = enqueue();
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            assertThat(outboxRepository.findById(id).orElseThrow().getStatus())
+                    .isEqualTo(NotificationOutbox.Status.PENDING);
+            makeDue(id);
+            assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+        }
+
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(NotificationOutbox.Status.FAILED);
+        assertThat(row.getAttempts()).isEqualTo(3);
+        makeDue(id);
+        assertThat(dispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    void undeliverableRowIsFailedWithoutRetry() {
+        useSender((channel, recipient, subject, body) -> {
+            throw new IllegalArgumentException("Malformed address");
+        });
+        long id = enqueue();
+
+        dispatcher.dispatchBatch();
+
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(NotificationOutbox.Status.FAILED);
+        assertThat(row.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void hungSendCountsAsFailedAttempt() {
+        useSender((channel, recipient, subject, body) -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        long id = enqueue();
+
+        dispatcher.dispatchBatch();
+
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(NotificationOutbox.Status.PENDING);
+        assertThat(row.getLastError()).startsWith("TimeoutException");
+    }
+
+    @Test
+    void expiredLeaseIsClaimedAgainAndTheLateResultIgnored() throws Exception {
+        AtomicInteger sends = new AtomicInteger();
+        AtomicInteger claimedWhileLeased = new AtomicInteger(-1);
+        AtomicInteger reclaimed = new AtomicInteger(-1);
+        useSender((channel, recipient, subject, body) -> {
+            if (sends.incrementAndGet() > 1) {
+                return; // the second claim delivers
+            }
+            // First claim: another dispatcher finds nothing while the lease holds...
+            claimedWhileLeased.set(CompletableFuture.supplyAsync(dispatcher::dispatchBatch).join());
+            // ...and claims the row again once it has run out
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            reclaimed.set(CompletableFuture.supplyAsync(dispatcher::dispatchBatch).join());
+            throw new IOException("Answered too late");
+        });
+        long id = enqueue();
+
+        assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+
+        assertThat(claimedWhileLeased).hasValue(0);
+        assertThat(reclaimed).hasValue(1);
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(NotificationOutbox.Status.SENT);
+        assertThat(row.getAttempts()).isEqualTo(2);
+        assertThat(row.getLastError()).isNull();
+    }
+
+    private void useSender(NotificationSender fake) {
+        ReflectionTestUtils.setField(dispatcher, "sender", fake);
+    }
+
+    private long enqueue() {
+        return outboxRepository.save(new NotificationOutbox(NotificationOutbox.Channel.EMAIL, "asha@mail.in",
+                "Complaint updated", "Your complaint is now IN_PROGRESS.", 1L, LocalDateTime.now())).getId();
+    }
+
+    private void makeDue(long id) {
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        row.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepository.save(row);
+    }
+}